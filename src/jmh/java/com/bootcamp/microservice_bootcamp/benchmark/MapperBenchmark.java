@@ -0,0 +1,89 @@
+package com.bootcamp.microservice_bootcamp.benchmark;
+
+import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.CapacityWithTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.TechnologySummary;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper.IBootcampWithCapacitiesAndTechnologiesMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final IBootcampEntityMapper entityMapper = Mappers.getMapper(IBootcampEntityMapper.class);
+    private final IBootcampWithCapacitiesAndTechnologiesMapper dtoMapper =
+            Mappers.getMapper(IBootcampWithCapacitiesAndTechnologiesMapper.class);
+
+    private List<BootcampEntity> entities;
+    private List<Bootcamp> models;
+    private List<BootcampWithCapacitiesAndTechnologies> enriched;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new BootcampEntity(id, "Bootcamp " + id, "Description " + id,
+                        LocalDate.of(2020, 1, 1).plusDays(id % 3650), (int) (id % 52) + 1, 4))
+                .toList();
+        models = entities.stream().map(entityMapper::toModel).toList();
+        List<CapacityWithTechnologies> capacities = IntStream.rangeClosed(1, 4)
+                .mapToObj(capacityId -> new CapacityWithTechnologies((long) capacityId, "Capacity " + capacityId,
+                        IntStream.rangeClosed(1, 8)
+                                .mapToObj(techId -> new TechnologySummary((long) techId, "Technology " + techId))
+                                .toList()))
+                .toList();
+        enriched = models.stream()
+                .map(model -> new BootcampWithCapacitiesAndTechnologies(model.id(), model.name(), model.description(),
+                        model.releaseDate(), model.duration(), capacities, false))
+                .toList();
+    }
+
+    @Benchmark
+    public void entityToModel(Blackhole blackhole) {
+        for (BootcampEntity entity : entities) {
+            blackhole.consume(entityMapper.toModel(entity));
+        }
+    }
+
+    @Benchmark
+    public void modelToEntity(Blackhole blackhole) {
+        for (Bootcamp model : models) {
+            blackhole.consume(entityMapper.toEntity(model));
+        }
+    }
+
+    @Benchmark
+    public void enrichedModelToDto(Blackhole blackhole) {
+        for (BootcampWithCapacitiesAndTechnologies model : enriched) {
+            blackhole.consume(dtoMapper.toDTO(model));
+        }
+    }
+}
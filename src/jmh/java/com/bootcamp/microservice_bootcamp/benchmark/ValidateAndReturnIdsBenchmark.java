@@ -0,0 +1,160 @@
+package com.bootcamp.microservice_bootcamp.benchmark;
+
+import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
+import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
+import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
+import com.bootcamp.microservice_bootcamp.domain.usecase.BootcampUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateAndReturnIdsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Long> ids;
+    private InMemoryBootcampPersistence persistence;
+    private BootcampUseCase useCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = LongStream.rangeClosed(1, size).boxed().toList();
+        Map<Long, Bootcamp> bootcamps = new HashMap<>();
+        ids.forEach(id -> bootcamps.put(id, new Bootcamp(id, "Bootcamp " + id, "Desc",
+                LocalDate.of(2020, 1, 1).plusDays(id), id.intValue())));
+        persistence = new InMemoryBootcampPersistence(bootcamps);
+        useCase = new BootcampUseCase(persistence, null, null, null, null);
+    }
+
+    @Benchmark
+    public long perIdQueriesAndNestedLoop() {
+        persistence.queries.set(0);
+        legacyValidateAndReturnIds(ids).block();
+        return persistence.queries.get();
+    }
+
+    @Benchmark
+    public long singleQueryAndHashSets() {
+        persistence.queries.set(0);
+        useCase.validateAndReturnIds(ids).block();
+        return persistence.queries.get();
+    }
+
+    private Mono<List<Long>> legacyValidateAndReturnIds(List<Long> ids) {
+        return Flux.fromIterable(ids)
+                .flatMap(id -> persistence.existsById(id)
+                        .flatMap(exists -> {
+                            if (Boolean.FALSE.equals(exists)) {
+                                return Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_NOT_FOUND));
+                            }
+                            return persistence.findById(id);
+                        }))
+                .collectList()
+                .flatMap(bootcamps -> {
+                    for (int i = 0; i < bootcamps.size(); i++) {
+                        for (int j = i + 1; j < bootcamps.size(); j++) {
+                            Bootcamp b1 = bootcamps.get(i);
+                            Bootcamp b2 = bootcamps.get(j);
+                            if (Objects.equals(b1.releaseDate(), b2.releaseDate())
+                                    || Objects.equals(b1.duration(), b2.duration())) {
+                                return Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_DUPLICATE_DATE_DURATION));
+                            }
+                        }
+                    }
+                    return Mono.just(ids);
+                });
+    }
+
+    private static final class InMemoryBootcampPersistence implements IBootcampPersistencePort {
+        private final Map<Long, Bootcamp> bootcamps;
+        private final AtomicLong queries = new AtomicLong();
+
+        private InMemoryBootcampPersistence(Map<Long, Bootcamp> bootcamps) {
+            this.bootcamps = bootcamps;
+        }
+
+        @Override
+        public Mono<Boolean> existsById(Long id) {
+            queries.incrementAndGet();
+            return Mono.just(bootcamps.containsKey(id));
+        }
+
+        @Override
+        public Mono<Bootcamp> findById(Long id) {
+            queries.incrementAndGet();
+            return Mono.justOrEmpty(bootcamps.get(id));
+        }
+
+        @Override
+        public Flux<Bootcamp> findAllById(Collection<Long> ids) {
+            queries.incrementAndGet();
+            return Flux.fromIterable(ids).mapNotNull(bootcamps::get);
+        }
+
+        @Override
+        public Mono<Bootcamp> save(Bootcamp bootcamp) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Bootcamp> saveWithPendingAssociation(Bootcamp bootcamp, List<Long> capacityIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Boolean> existsByName(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> deleteById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Void> updateCapacityCount(Long id, int capacityCount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<Set<String>> findExistingNames(Collection<String> names) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<Bootcamp> saveAllWithPendingAssociation(List<BootcampRegistration> registrations) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.model.CapacityWithTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.TechnologySummary;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.BootcampCapacitiesResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Decodes a batch capacities-technologies payload the way the query adapter used to ({@code Map<String, Object>}
+ * plus {@code toString()} parsing) and the way it does now (typed records). Run with the gc profiler to compare
+ * {@code gc.alloc.rate.norm} per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapacityPayloadMappingBenchmark {
+
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<BootcampCapacitiesResponse>> RESPONSE_LIST = new TypeReference<>() {};
+
+    @Param({"10", "50"})
+    private int bootcamps;
+
+    @Param({"4"})
+    private int capacities;
+
+    @Param({"3", "20"})
+    private int technologiesPerCapacity;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = IntStream.rangeClosed(1, bootcamps)
+                .mapToObj(bootcampId -> "{\"bootcampId\":" + bootcampId + ",\"capacities\":"
+                        + IntStream.rangeClosed(1, capacities)
+                        .mapToObj(capacityId -> "{\"id\":" + capacityId + ",\"name\":\"Capacity " + capacityId
+                                + "\",\"technologies\":" + IntStream.rangeClosed(1, technologiesPerCapacity)
+                                .mapToObj(techId -> "{\"id\":" + techId + ",\"name\":\"Technology " + techId + "\"}")
+                                .collect(Collectors.joining(",", "[", "]")) + "}")
+                        .collect(Collectors.joining(",", "[", "]")) + "}")
+                .collect(Collectors.joining(",", "[", "]"))
+                .getBytes();
+    }
+
+    @Benchmark
+    public Map<Long, List<CapacityWithTechnologies>> typedRecords() throws IOException {
+        List<BootcampCapacitiesResponse> responses = objectMapper.readValue(payload, RESPONSE_LIST);
+        Map<Long, List<CapacityWithTechnologies>> byBootcampId = new HashMap<>();
+        for (BootcampCapacitiesResponse response : responses) {
+            byBootcampId.put(response.bootcampId(),
+                    BootcampQueryAdapter.mapToCapacitiesWithTechnologies(response.capacities()));
+        }
+        return byBootcampId;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<Long, List<CapacityWithTechnologies>> untypedMaps() throws IOException {
+        List<Map<String, Object>> responses = objectMapper.readValue(payload, MAP_LIST);
+        Map<Long, List<CapacityWithTechnologies>> byBootcampId = new HashMap<>();
+        for (Map<String, Object> response : responses) {
+            byBootcampId.put(Long.valueOf(response.get("bootcampId").toString()), mapLegacy(
+                    (List<Map<String, Object>>) response.getOrDefault("capacities", Collections.emptyList())));
+        }
+        return byBootcampId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<CapacityWithTechnologies> mapLegacy(List<Map<String, Object>> capacityList) {
+        return capacityList.stream()
+                .map(x -> new CapacityWithTechnologies(
+                        Long.valueOf(x.get("id").toString()),
+                        (String) x.get("name"),
+                        ((List<Map<String, Object>>) x.getOrDefault("technologies", Collections.emptyList())).stream()
+                                .map(t -> new TechnologySummary(Long.valueOf(t.get("id").toString()), t.get("name").toString()))
+                                .toList()))
+                .toList();
+    }
+}
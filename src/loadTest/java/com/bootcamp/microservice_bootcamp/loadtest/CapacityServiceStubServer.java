@@ -0,0 +1,139 @@
+package com.bootcamp.microservice_bootcamp.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class CapacityServiceStubServer implements AutoCloseable {
+
+    private static final Pattern BOOTCAMP_ID = Pattern.compile("\"bootcampId\"\\s*:\\s*(\\d+)");
+
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double errorRate;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong associatedBootcamps = new AtomicLong();
+    private DisposableServer server;
+
+    CapacityServiceStubServer(Duration latency, Duration latencyJitter, double errorRate) {
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.errorRate = errorRate;
+    }
+
+    CapacityServiceStubServer start() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/capacity/bootcamp/capacities-technologies/batch", (request, response) ->
+                                respond(request, response, () -> Arrays.stream(queryParam(request, "bootcampIds").split(","))
+                                        .map(id -> "{\"bootcampId\":" + id + ",\"capacities\":" + capacitiesJson(id) + "}")
+                                        .collect(Collectors.joining(",", "[", "]"))))
+                        .get("/capacity/bootcamp/capacities-technologies", (request, response) ->
+                                respond(request, response, () -> capacitiesJson(queryParam(request, "bootcampId"))))
+                        .get("/capacity/bootcamp/relation-counts", (request, response) ->
+                                respond(request, response, () -> "[]"))
+                        .post("/capacity/bootcamp/associate", (request, response) ->
+                                respond(request, response, requestBody -> {
+                                    associatedBootcamps.incrementAndGet();
+                                    return "{}";
+                                }))
+                        .post("/capacity/bootcamp/associate/bulk", (request, response) ->
+                                respond(request, response, requestBody -> {
+                                    List<String> bootcampIds = BOOTCAMP_ID.matcher(requestBody).results()
+                                            .map(match -> match.group(1))
+                                            .toList();
+                                    associatedBootcamps.addAndGet(bootcampIds.size());
+                                    return bootcampIds.stream()
+                                            .map(id -> "{\"bootcampId\":" + id + ",\"associated\":true}")
+                                            .collect(Collectors.joining(",", "[", "]"));
+                                }))
+                        .delete("/capacity/bootcamp/{bootcampId}/exclusive-delete", (request, response) ->
+                                respond(request, response, () -> null)))
+                .bindNow();
+        return this;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    long associatedBootcamps() {
+        return associatedBootcamps.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private Publisher<Void> respond(HttpServerRequest request, HttpServerResponse response, Supplier<String> body) {
+        return respond(request, response, requestBody -> body.get());
+    }
+
+    private Publisher<Void> respond(HttpServerRequest request, HttpServerResponse response,
+                                    Function<String, String> body) {
+        requests.incrementAndGet();
+        return request.receive().aggregate().asString().defaultIfEmpty("")
+                .delayElement(nextLatency())
+                .flatMap(requestBody -> {
+                    if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                        injectedErrors.incrementAndGet();
+                        return response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send().then();
+                    }
+                    String json = body.apply(requestBody);
+                    if (json == null) {
+                        return response.status(HttpResponseStatus.NO_CONTENT).send().then();
+                    }
+                    return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                            .sendString(Mono.just(json))
+                            .then();
+                });
+    }
+
+    private Duration nextLatency() {
+        long jitterNanos = latencyJitter.toNanos();
+        long extra = jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0;
+        return latency.plusNanos(extra);
+    }
+
+    private static String capacitiesJson(String bootcampId) {
+        return "[{\"id\":" + bootcampId + "1,\"name\":\"Backend " + bootcampId + "\",\"technologies\":["
+                + "{\"id\":1,\"name\":\"Java\"},{\"id\":2,\"name\":\"Spring\"},{\"id\":3,\"name\":\"SQL\"}]},"
+                + "{\"id\":" + bootcampId + "2,\"name\":\"Frontend " + bootcampId + "\",\"technologies\":["
+                + "{\"id\":4,\"name\":\"TypeScript\"},{\"id\":5,\"name\":\"React\"}]}]";
+    }
+
+    private static String queryParam(HttpServerRequest request, String name) {
+        List<String> values = new QueryStringDecoder(request.uri()).parameters().get(name);
+        return values == null || values.isEmpty() ? "" : values.get(0);
+    }
+}
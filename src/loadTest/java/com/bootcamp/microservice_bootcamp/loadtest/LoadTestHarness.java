@@ -0,0 +1,270 @@
+package com.bootcamp.microservice_bootcamp.loadtest;
+
+import com.bootcamp.microservice_bootcamp.MicroserviceBootcampApplication;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityOutboxEntity;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts the service against an in-memory H2 database and an in-process capacity-service stub, then drives
+ * an open-loop mix of create, list and delete requests at a fixed rate. Latency is measured from each
+ * request's scheduled start so a stalled server is not hidden by the generator slowing down.
+ * <p>
+ * Configure it with {@code -Dloadtest.*} system properties, for example
+ * {@code ./gradlew loadTest -Dloadtest.rate=200 -Dloadtest.duration=60s -Dloadtest.stub.error-rate=0.01}.
+ */
+public final class LoadTestHarness {
+
+    private static final String CREATE = "create";
+    private static final String LIST = "list";
+    private static final String DELETE = "delete";
+
+    private final Settings settings;
+    private final WebClient client;
+    private final LatencyReport report = new LatencyReport();
+    private final Queue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong createdNames = new AtomicLong();
+    private final AtomicLong droppedTicks = new AtomicLong();
+    private final AtomicLong starvedDeletes = new AtomicLong();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private LoadTestHarness(Settings settings, WebClient client) {
+        this.settings = settings;
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        try (CapacityServiceStubServer stub = new CapacityServiceStubServer(
+                settings.stubLatency(), settings.stubLatencyJitter(), settings.stubErrorRate()).start();
+             ConfigurableApplicationContext application = startApplication(stub.baseUrl())) {
+            String baseUrl = "http://127.0.0.1:" + application.getEnvironment().getProperty("local.server.port");
+            new LoadTestHarness(settings, WebClient.builder().baseUrl(baseUrl).build())
+                    .run(stub, application.getBean(IBootcampCapacityOutboxRepository.class));
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String capacityServiceUrl) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///bootcamp-loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.r2dbc.username", "sa");
+        properties.put("spring.r2dbc.password", "");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("bootcamp.schema.location", "classpath:schema-loadtest.sql");
+        // Creates only enqueue the capacity association; poll often so the dispatcher keeps up with the load.
+        properties.put("bootcamp.association.outbox.poll-interval", "200ms");
+        properties.put("capacity.service.url", capacityServiceUrl);
+        properties.put("technology.service.url", capacityServiceUrl);
+        properties.put("logging.level.root", "WARN");
+        return new SpringApplicationBuilder(MicroserviceBootcampApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private void run(CapacityServiceStubServer stub, IBootcampCapacityOutboxRepository outboxRepository)
+            throws Exception {
+        seed();
+
+        long periodNanos = 1_000_000_000L / settings.rate();
+        long warmupTicks = settings.warmup().toNanos() / periodNanos;
+        long totalTicks = warmupTicks + settings.duration().toNanos() / periodNanos;
+        long startNanos = System.nanoTime();
+
+        Flux.interval(Duration.ofNanos(periodNanos))
+                .take(totalTicks)
+                .onBackpressureDrop(tick -> droppedTicks.incrementAndGet())
+                .flatMap(tick -> execute(startNanos + tick * periodNanos, tick >= warmupTicks), settings.maxInFlight())
+                .blockLast();
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            out.printf("target rate %d req/s, warmup %s, measured %s, mix %s%n",
+                    settings.rate(), settings.warmup(), settings.duration(), settings.mix());
+            out.printf("stub latency %s + up to %s, error rate %.3f%n",
+                    settings.stubLatency(), settings.stubLatencyJitter(), settings.stubErrorRate());
+            report.print(out, settings.duration());
+            out.printf("dropped ticks %d, deletes without a seeded id %d, stub requests %d, stub injected errors %d%n",
+                    droppedTicks.get(), starvedDeletes.get(), stub.requests(), stub.injectedErrors());
+            out.printf("associated bootcamps %d, outbox backlog at end %d pending, %d failed%n",
+                    stub.associatedBootcamps(),
+                    outboxRepository.countByStatus(BootcampCapacityOutboxEntity.STATUS_PENDING).block(),
+                    outboxRepository.countByStatus(BootcampCapacityOutboxEntity.STATUS_FAILED).block());
+        }
+        String summary = buffer.toString(StandardCharsets.UTF_8);
+        System.out.print(summary);
+
+        Path reportDirectory = Path.of(settings.reportDirectory());
+        report.writeDistributions(reportDirectory);
+        Files.writeString(reportDirectory.resolve("summary.txt"), summary);
+    }
+
+    private void seed() {
+        long deletes = Math.round(settings.rate() * (settings.warmup().plus(settings.duration()).toSeconds())
+                * settings.mix().share(DELETE));
+        Flux.range(0, (int) deletes + settings.listSize())
+                .flatMap(i -> create(), 16)
+                .blockLast();
+        for (int page = 0; ; page++) {
+            List<Long> ids = listIds(page, 100).block();
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            deletableIds.addAll(ids);
+        }
+    }
+
+    private Mono<Void> execute(long intendedStartNanos, boolean measured) {
+        String operation = settings.mix().pick(ThreadLocalRandom.current().nextDouble());
+        Mono<Boolean> request = switch (operation) {
+            case CREATE -> create();
+            case DELETE -> delete();
+            default -> list();
+        };
+        return request
+                .onErrorReturn(false)
+                .doOnNext(success -> {
+                    if (measured) {
+                        report.record(operation, System.nanoTime() - intendedStartNanos, success);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<Boolean> create() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        long sequence = createdNames.incrementAndGet();
+        body.put("name", "lt-" + runId + "-" + sequence);
+        body.put("description", "Load test bootcamp " + sequence);
+        body.put("capacityIds", List.of(1, 2, 3));
+        body.put("releaseDate", LocalDate.of(2024, 1, 1).plusDays(sequence % 3650).toString());
+        body.put("duration", (int) (sequence % 52) + 1);
+        return client.post().uri("/bootcamp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()));
+    }
+
+    private Mono<Boolean> list() {
+        int page = ThreadLocalRandom.current().nextInt(settings.listPages());
+        return client.get().uri("/bootcamp/list?page={page}&size={size}", page, settings.listSize())
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()));
+    }
+
+    private Mono<Boolean> delete() {
+        Long id = deletableIds.poll();
+        if (id == null) {
+            starvedDeletes.incrementAndGet();
+            return list();
+        }
+        return client.delete().uri("/bootcamp/{id}", id)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<List<Long>> listIds(int page, int size) {
+        return client.get().uri("/bootcamp/list?page={page}&size={size}", page, size)
+                .retrieve()
+                .bodyToFlux(Map.class)
+                .map(bootcamp -> ((Number) bootcamp.get("id")).longValue())
+                .collectList();
+    }
+
+    private record Settings(int rate, Duration warmup, Duration duration, Mix mix, int maxInFlight,
+                            int listSize, int listPages, Duration stubLatency, Duration stubLatencyJitter,
+                            double stubErrorRate, String reportDirectory) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("loadtest.rate", 50),
+                    duration("loadtest.warmup", "10s"),
+                    duration("loadtest.duration", "30s"),
+                    Mix.parse(System.getProperty("loadtest.mix", "create:2,list:7,delete:1")),
+                    Integer.getInteger("loadtest.max-in-flight", 512),
+                    Integer.getInteger("loadtest.list-size", 20),
+                    Integer.getInteger("loadtest.list-pages", 5),
+                    duration("loadtest.stub.latency", "20ms"),
+                    duration("loadtest.stub.latency-jitter", "10ms"),
+                    Double.parseDouble(System.getProperty("loadtest.stub.error-rate", "0")),
+                    System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        }
+
+        private static Duration duration(String property, String defaultValue) {
+            return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+        }
+    }
+
+    private record Mix(List<String> operations, double[] cumulativeShares) {
+
+        static Mix parse(String spec) {
+            List<String> operations = new ArrayList<>();
+            List<Double> weights = new ArrayList<>();
+            for (String part : spec.split(",")) {
+                String[] operationAndWeight = part.trim().split(":");
+                operations.add(operationAndWeight[0]);
+                weights.add(Double.parseDouble(operationAndWeight[1]));
+            }
+            double total = weights.stream().mapToDouble(Double::doubleValue).sum();
+            double[] cumulative = new double[weights.size()];
+            double running = 0;
+            for (int i = 0; i < weights.size(); i++) {
+                running += weights.get(i) / total;
+                cumulative[i] = running;
+            }
+            return new Mix(operations, cumulative);
+        }
+
+        String pick(double random) {
+            for (int i = 0; i < cumulativeShares.length; i++) {
+                if (random < cumulativeShares[i]) {
+                    return operations.get(i);
+                }
+            }
+            return operations.get(operations.size() - 1);
+        }
+
+        double share(String operation) {
+            int index = operations.indexOf(operation);
+            if (index < 0) {
+                return 0;
+            }
+            return cumulativeShares[index] - (index == 0 ? 0 : cumulativeShares[index - 1]);
+        }
+
+        @Override
+        public String toString() {
+            List<String> parts = new ArrayList<>();
+            for (int i = 0; i < operations.size(); i++) {
+                parts.add(operations.get(i) + ":" + String.format(Locale.ROOT, "%.2f", share(operations.get(i))));
+            }
+            return String.join(",", parts);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS bootcamp (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  name VARCHAR(50) NOT NULL,
+  description VARCHAR(90),
+  release_date DATE,
+  duration INT,
+  capacity_count INT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_bootcamp_name ON bootcamp (name, id);
+CREATE INDEX IF NOT EXISTS idx_bootcamp_capacity_count ON bootcamp (capacity_count, id);
+
+CREATE TABLE IF NOT EXISTS bootcamp_capacity_outbox (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  bootcamp_id BIGINT NOT NULL,
+  capacity_ids VARCHAR(255) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMP(3) NOT NULL,
+  claimed_by VARCHAR(36),
+  created_at TIMESTAMP(3) NOT NULL,
+  CONSTRAINT fk_outbox_bootcamp FOREIGN KEY (bootcamp_id) REFERENCES bootcamp (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON bootcamp_capacity_outbox (status, next_attempt_at, id);
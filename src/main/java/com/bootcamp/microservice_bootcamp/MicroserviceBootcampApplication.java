@@ -1,10 +1,11 @@
 package com.bootcamp.microservice_bootcamp;
 
 import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
 import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
 
@@ -16,10 +17,11 @@ public class MicroserviceBootcampApplication {
 	}
 
 	@Bean
-	ConnectionFactoryInitializer initializer(ConnectionFactory connectiontFactory){
+	ConnectionFactoryInitializer initializer(ConnectionFactory connectiontFactory,
+											 @Value("${bootcamp.schema.location:classpath:schema.sql}") Resource schema){
 		ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
 		initializer.setConnectionFactory(connectiontFactory);
-		initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("schema.sql")));
+		initializer.setDatabasePopulator(new ResourceDatabasePopulator(schema));
 		return initializer;
 	}
 }
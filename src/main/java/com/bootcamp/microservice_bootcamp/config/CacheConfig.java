@@ -0,0 +1,61 @@
+package com.bootcamp.microservice_bootcamp.config;
+
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.CapacityWithTechnologies;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.BootcampListCacheKey;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.CachedBootcampListPage;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public Cache<Long, List<CapacityWithTechnologies>> bootcampCapacitiesCache(
+            @Value("${bootcamp.cache.capacities.ttl:10m}") Duration ttl,
+            @Value("${bootcamp.cache.capacities.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        Cache<Long, List<CapacityWithTechnologies>> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "bootcamp.capacities");
+    }
+
+    @Bean
+    public AsyncCache<Long, BootcampWithCapacitiesAndTechnologies> bootcampDetailCache(
+            @Value("${bootcamp.cache.details.ttl:1m}") Duration ttl,
+            @Value("${bootcamp.cache.details.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        AsyncCache<Long, BootcampWithCapacitiesAndTechnologies> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "bootcamp.details");
+    }
+
+    @Bean
+    public Cache<BootcampListCacheKey, CachedBootcampListPage> bootcampListResponseCache(
+            @Value("${bootcamp.cache.list-responses.ttl:30s}") Duration ttl,
+            @Value("${bootcamp.cache.list-responses.max-bytes:16777216}") long maxBytes,
+            MeterRegistry meterRegistry) {
+        Cache<BootcampListCacheKey, CachedBootcampListPage> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxBytes)
+                .weigher((BootcampListCacheKey key, CachedBootcampListPage page) -> page.body().length)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "bootcamp.list-responses");
+    }
+}
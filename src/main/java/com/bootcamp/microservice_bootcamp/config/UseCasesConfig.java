@@ -2,37 +2,68 @@ package com.bootcamp.microservice_bootcamp.config;
 
 
 import com.bootcamp.microservice_bootcamp.domain.api.IBootcampServicePort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
 import com.bootcamp.microservice_bootcamp.domain.usecase.BootcampUseCase;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.BootcampPersistenceAdapter;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.CoalescingBootcampQueryAdapter;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.MeteredBootcampPersistenceAdapter;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
 
 @Configuration
 @RequiredArgsConstructor
 public class UseCasesConfig {
         private final IBootcampRepository bootcampRepository;
         private final IBootcampEntityMapper bootcampEntityMapper;
+        private final DatabaseClient databaseClient;
+        private final IBootcampCapacityOutboxRepository outboxRepository;
+        private final StageMetrics stageMetrics;
 
 
+        /**
+         * Registered as its own bean so its {@code @Transactional} methods are proxied; the metered
+         * decorator below wraps the proxy rather than a raw instance.
+         */
         @Bean
-        public IBootcampPersistencePort bootcampPersistencePort() {
-                return new BootcampPersistenceAdapter(bootcampRepository, bootcampEntityMapper);
+        public BootcampPersistenceAdapter bootcampPersistenceAdapter() {
+                return new BootcampPersistenceAdapter(bootcampRepository, bootcampEntityMapper, databaseClient,
+                        outboxRepository);
+        }
+
+        @Bean
+        @Primary
+        public IBootcampPersistencePort bootcampPersistencePort(BootcampPersistenceAdapter bootcampPersistenceAdapter) {
+                return new MeteredBootcampPersistenceAdapter(bootcampPersistenceAdapter, stageMetrics);
         }
 
         @Bean
         public IBootcampServicePort bootcampServicePort(
                 IBootcampPersistencePort bootcampPersistencePort,
                 IBootcampCapacityAssociationPort bootcampCapacityAssociationPort,
-                IBootcampQueryPort bootcampQueryPort
-
+                IBootcampQueryPort bootcampQueryPort,
+                IBootcampCachePort bootcampCachePort,
+                IBootcampListCachePort bootcampListCachePort,
+                MeterRegistry meterRegistry,
+                @Value("${bootcamp.list.coalescing.enabled:true}") boolean listCoalescingEnabled
         ) {
-                return new BootcampUseCase(bootcampPersistencePort, bootcampCapacityAssociationPort, bootcampQueryPort);
+                IBootcampQueryPort queryPort = listCoalescingEnabled
+                        ? new CoalescingBootcampQueryAdapter(bootcampQueryPort, meterRegistry)
+                        : bootcampQueryPort;
+                return new BootcampUseCase(bootcampPersistencePort, bootcampCapacityAssociationPort, queryPort,
+                        bootcampCachePort, bootcampListCachePort);
         }
 
 
@@ -1,13 +1,62 @@
 package com.bootcamp.microservice_bootcamp.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties(DownstreamClientProperties.class)
 public class WebClientConfig {
+
+    private static final String CAPACITY_SERVICE = "capacity";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider capacityServiceConnectionProvider(DownstreamClientProperties properties) {
+        return connectionProvider(CAPACITY_SERVICE, properties.client(CAPACITY_SERVICE));
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient webClient(WebClient.Builder webClientBuilder,
+                               ConnectionProvider capacityServiceConnectionProvider,
+                               DownstreamClientProperties properties) {
+        HttpClient httpClient = httpClient(capacityServiceConnectionProvider, properties.client(CAPACITY_SERVICE));
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private ConnectionProvider connectionProvider(String name, DownstreamClientProperties.Client client) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .maxLifeTime(client.getMaxLifeTime())
+                .evictInBackground(client.getEvictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    private HttpClient httpClient(ConnectionProvider connectionProvider, DownstreamClientProperties.Client client) {
+        long readTimeoutMillis = client.getReadTimeout().toMillis();
+        return HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, client.isKeepAlive())
+                .keepAlive(client.isKeepAlive())
+                .protocol(client.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .responseTimeout(client.getResponseTimeout())
+                .doOnRequest((request, connection) -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)));
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,11 @@ package com.bootcamp.microservice_bootcamp.domain.api;
 
 
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistrationResult;
 import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -10,13 +15,32 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 
 public interface IBootcampServicePort {
+    int MAX_BULK_SIZE = 500;
+
     Mono<String> registerBootcampWithCapacities(Bootcamp capacity, List<Long> capacityIds);
+    Mono<List<BootcampRegistrationResult>> registerBootcampsInBulk(List<BootcampRegistration> registrations);
     Flux<BootcampWithCapacitiesAndTechnologies> listBootcampsPagedAndSorted(
             int page,
             int size,
             String sortBy,
+            String direction,
+            BootcampListInclude include
+    );
+    Flux<BootcampWithCapacitiesAndTechnologies> streamBootcampsPagedAndSorted(
+            int page,
+            int size,
+            String sortBy,
+            String direction,
+            BootcampListInclude include
+    );
+    Mono<BootcampCursorPage> listBootcampsByCursor(
+            String cursor,
+            int size,
+            String sortBy,
             String direction
     );
+    Mono<BootcampMultiGetResult> getBootcampsByIds(List<Long> ids);
+    Mono<BootcampWithCapacitiesAndTechnologies> getBootcampById(Long id);
     Mono<Void> deleteBootcampAndCascade(Long bootcampId);
     Mono<List<Long>> validateAndReturnIds(List<Long> ids);
 }
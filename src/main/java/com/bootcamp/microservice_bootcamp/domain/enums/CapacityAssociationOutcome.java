@@ -0,0 +1,7 @@
+package com.bootcamp.microservice_bootcamp.domain.enums;
+
+public enum CapacityAssociationOutcome {
+    ASSOCIATED,
+    RETRYABLE,
+    REJECTED
+}
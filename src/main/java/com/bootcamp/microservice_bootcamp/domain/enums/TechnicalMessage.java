@@ -19,7 +19,10 @@ public enum TechnicalMessage {
     CAPACITY_ALREADY_ASSOCIATED("409", "The capacity is already associated ", "capacityId"),
     CAPABILITY_CAPACITY_LIMIT("400", "Cannot associate: capability would exceed 4 capacity associations", "capabilityId"),
     SAVED_ASSOCIATION("200", "Associations saved successfully", ""),
-    BOOTCAMP_DUPLICATE_DATE_DURATION ("400", "Bootcamp with the same release date and duration already exists", "");
+    BOOTCAMP_DUPLICATE_DATE_DURATION ("400", "Bootcamp with the same release date and duration already exists", ""),
+    INVALID_CURSOR("400", "Invalid cursor. It must come from a previous page with the same sortBy and direction.", "cursor"),
+    INVALID_BULK_SIZE("400", "Bulk request must contain between 1 and 500 bootcamps.", ""),
+    INVALID_BOOTCAMP_IDS("400", "ids must contain between 1 and 100 numeric bootcamp IDs.", "ids");
 
     private final String code;
     private final String message;
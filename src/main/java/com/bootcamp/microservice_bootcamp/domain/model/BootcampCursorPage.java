@@ -0,0 +1,8 @@
+package com.bootcamp.microservice_bootcamp.domain.model;
+
+import java.util.List;
+
+public record BootcampCursorPage(
+        List<BootcampWithCapacitiesAndTechnologies> bootcamps,
+        String nextCursor
+) {}
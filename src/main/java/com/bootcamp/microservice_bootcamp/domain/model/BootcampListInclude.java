@@ -0,0 +1,13 @@
+package com.bootcamp.microservice_bootcamp.domain.model;
+
+public record BootcampListInclude(
+        boolean capacities,
+        boolean technologies
+) {
+    public static final BootcampListInclude ALL = new BootcampListInclude(true, true);
+    public static final BootcampListInclude NONE = new BootcampListInclude(false, false);
+
+    public BootcampListInclude {
+        capacities = capacities || technologies;
+    }
+}
@@ -0,0 +1,8 @@
+package com.bootcamp.microservice_bootcamp.domain.model;
+
+import java.util.List;
+
+public record BootcampMultiGetResult(
+        List<BootcampWithCapacitiesAndTechnologies> bootcamps,
+        List<Long> missingIds
+) {}
@@ -0,0 +1,8 @@
+package com.bootcamp.microservice_bootcamp.domain.model;
+
+import java.util.List;
+
+public record BootcampRegistration(
+        Bootcamp bootcamp,
+        List<Long> capacityIds
+) {}
@@ -0,0 +1,9 @@
+package com.bootcamp.microservice_bootcamp.domain.model;
+
+import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
+
+public record BootcampRegistrationResult(
+        String name,
+        Long bootcampId,
+        TechnicalMessage result
+) {}
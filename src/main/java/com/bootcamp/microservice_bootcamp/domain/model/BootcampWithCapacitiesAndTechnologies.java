@@ -9,5 +9,6 @@ public record BootcampWithCapacitiesAndTechnologies(
         String description,
         LocalDate releaseDate,
         Integer duration,
-        List<CapacityWithTechnologies> capacities
+        List<CapacityWithTechnologies> capacities,
+        boolean degraded
 ) {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.bootcamp.microservice_bootcamp.domain.spi;
+
+import reactor.core.publisher.Mono;
+
+public interface IBootcampCachePort {
+    Mono<Void> evict(Long bootcampId);
+}
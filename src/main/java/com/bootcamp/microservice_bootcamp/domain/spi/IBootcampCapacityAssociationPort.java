@@ -1,10 +1,13 @@
 package com.bootcamp.microservice_bootcamp.domain.spi;
 
+import com.bootcamp.microservice_bootcamp.domain.enums.CapacityAssociationOutcome;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 public interface IBootcampCapacityAssociationPort {
     Mono<Boolean> associateCapacityToBootcamp(Long bootcampId, List<Long> capacityIds);
+    Mono<Map<Long, CapacityAssociationOutcome>> associateCapacitiesInBulk(Map<Long, List<Long>> capacityIdsByBootcampId);
     Mono<Void> deleteCapacitiesByBootcampId(Long bootcampId);
 }
\ No newline at end of file
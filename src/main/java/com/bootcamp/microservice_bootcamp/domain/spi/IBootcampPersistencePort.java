@@ -1,12 +1,23 @@
 package com.bootcamp.microservice_bootcamp.domain.spi;
 
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface IBootcampPersistencePort {
     Mono<Bootcamp> save(Bootcamp bootcamp);
+    Mono<Bootcamp> saveWithPendingAssociation(Bootcamp bootcamp, List<Long> capacityIds);
     Mono<Boolean> existsByName(String name);
     Mono<Void> deleteById(Long id);
     Mono<Boolean> existsById(Long id);
     Mono<Bootcamp> findById(Long id);
+    Flux<Bootcamp> findAllById(Collection<Long> ids);
+    Mono<Void> updateCapacityCount(Long id, int capacityCount);
+    Mono<Set<String>> findExistingNames(Collection<String> names);
+    Flux<Bootcamp> saveAllWithPendingAssociation(List<BootcampRegistration> registrations);
 }
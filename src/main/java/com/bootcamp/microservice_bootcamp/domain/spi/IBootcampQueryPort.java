@@ -1,13 +1,35 @@
 package com.bootcamp.microservice_bootcamp.domain.spi;
 
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
 import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface IBootcampQueryPort {
     Flux<BootcampWithCapacitiesAndTechnologies> listBootcampsPagedAndSorted(
             int page,
             int size,
             String sortBy,
+            String direction,
+            BootcampListInclude include
+    );
+    Flux<BootcampWithCapacitiesAndTechnologies> streamBootcampsPagedAndSorted(
+            int page,
+            int size,
+            String sortBy,
+            String direction,
+            BootcampListInclude include
+    );
+    Mono<BootcampCursorPage> listBootcampsByCursor(
+            String cursor,
+            int size,
+            String sortBy,
             String direction
     );
+    Mono<BootcampMultiGetResult> findBootcampsByIds(List<Long> ids);
+    Mono<BootcampWithCapacitiesAndTechnologies> findBootcampById(Long id);
 }
\ No newline at end of file
@@ -5,31 +5,50 @@ import com.bootcamp.microservice_bootcamp.domain.api.IBootcampServicePort;
 import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
 import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistrationResult;
 import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class BootcampUseCase implements IBootcampServicePort {
 
+    private static final int MAX_MULTI_GET_SIZE = 100;
+
     private final IBootcampPersistencePort bootcampPersistencePort;
     private final IBootcampCapacityAssociationPort bootcampCapacityAssociationPort;
     private final IBootcampQueryPort bootcampQueryPort;
+    private final IBootcampCachePort bootcampCachePort;
+    private final IBootcampListCachePort bootcampListCachePort;
 
     public BootcampUseCase(
             IBootcampPersistencePort bootcampPersistencePort,
-            IBootcampCapacityAssociationPort bootcampCapacityAssociationPort, IBootcampQueryPort bootcampQueryPort
+            IBootcampCapacityAssociationPort bootcampCapacityAssociationPort, IBootcampQueryPort bootcampQueryPort,
+            IBootcampCachePort bootcampCachePort, IBootcampListCachePort bootcampListCachePort
     ) {
         this.bootcampPersistencePort = bootcampPersistencePort;
         this.bootcampCapacityAssociationPort = bootcampCapacityAssociationPort;
         this.bootcampQueryPort = bootcampQueryPort;
+        this.bootcampCachePort = bootcampCachePort;
+        this.bootcampListCachePort = bootcampListCachePort;
     }
 
     public Mono<String> registerBootcampWithCapacities(Bootcamp bootcamp, List<Long> capacityIds) {
@@ -40,67 +59,151 @@ public class BootcampUseCase implements IBootcampServicePort {
                     if (Boolean.TRUE.equals(exists)) {
                         return Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_ALREADY_EXISTS));
                     }
-                    return bootcampPersistencePort.save(bootcamp)
-                            .flatMap(savedCapacity ->
-                                    bootcampCapacityAssociationPort.associateCapacityToBootcamp(savedCapacity.id(), capacityIds)
-                                            .flatMap(success -> {
-                                                if (Boolean.TRUE.equals(success)) {
-                                                    return Mono.just(TechnicalMessage.BOOTCAMP_CREATED.name());
-                                                } else {
-                                                    return bootcampPersistencePort.deleteById(savedCapacity.id())
-                                                            .then(Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_ASSOCIATION_FAILED)));
-                                                }
-                                            }));
+                    return bootcampPersistencePort.saveWithPendingAssociation(bootcamp, capacityIds)
+                            .then(bootcampListCachePort.invalidateAll())
+                            .thenReturn(TechnicalMessage.BOOTCAMP_CREATED.name());
+                });
+    }
+
+    @Override
+    public Mono<List<BootcampRegistrationResult>> registerBootcampsInBulk(List<BootcampRegistration> registrations) {
+        if (registrations == null || registrations.isEmpty() || registrations.size() > MAX_BULK_SIZE) {
+            return Mono.error(new BusinessException(TechnicalMessage.INVALID_BULK_SIZE));
+        }
+        return Flux.fromIterable(registrations)
+                .concatMap(registration -> validateCapacity(registration.bootcamp())
+                        .then(validateTechnologyIds(registration.capacityIds()))
+                        .thenReturn(TechnicalMessage.BOOTCAMP_CREATED)
+                        .onErrorResume(BusinessException.class, ex -> Mono.just(ex.getTechnicalMessage())))
+                .collectList()
+                .flatMap(outcomes -> {
+                    List<TechnicalMessage> validated = new ArrayList<>(outcomes);
+                    Set<String> requestedNames = new HashSet<>();
+                    for (int i = 0; i < registrations.size(); i++) {
+                        if (validated.get(i) == TechnicalMessage.BOOTCAMP_CREATED
+                                && !requestedNames.add(normalizeName(registrations.get(i).bootcamp().name()))) {
+                            validated.set(i, TechnicalMessage.BOOTCAMP_ALREADY_EXISTS);
+                        }
+                    }
+                    return bootcampPersistencePort.findExistingNames(requestedNames)
+                            .flatMap(existingNames -> {
+                                Set<String> existing = existingNames.stream()
+                                        .map(this::normalizeName)
+                                        .collect(Collectors.toSet());
+                                List<BootcampRegistration> accepted = new ArrayList<>();
+                                for (int i = 0; i < registrations.size(); i++) {
+                                    BootcampRegistration registration = registrations.get(i);
+                                    if (validated.get(i) != TechnicalMessage.BOOTCAMP_CREATED) {
+                                        continue;
+                                    }
+                                    if (existing.contains(normalizeName(registration.bootcamp().name()))) {
+                                        validated.set(i, TechnicalMessage.BOOTCAMP_ALREADY_EXISTS);
+                                    } else {
+                                        accepted.add(registration);
+                                    }
+                                }
+                                return saveInBulk(accepted)
+                                        .map(createdByName -> buildRegistrationResults(registrations, validated, createdByName));
+                            });
                 });
     }
 
+    private Mono<Map<String, BootcampRegistrationResult>> saveInBulk(List<BootcampRegistration> accepted) {
+        if (accepted.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return bootcampPersistencePort.saveAllWithPendingAssociation(accepted)
+                .collectMap(b -> normalizeName(b.name()),
+                        b -> new BootcampRegistrationResult(b.name(), b.id(), TechnicalMessage.BOOTCAMP_CREATED))
+                .flatMap(results -> bootcampListCachePort.invalidateAll().thenReturn(results));
+    }
+
+    private List<BootcampRegistrationResult> buildRegistrationResults(List<BootcampRegistration> registrations,
+                                                                      List<TechnicalMessage> validated,
+                                                                      Map<String, BootcampRegistrationResult> createdByName) {
+        List<BootcampRegistrationResult> results = new ArrayList<>(registrations.size());
+        for (int i = 0; i < registrations.size(); i++) {
+            Bootcamp bootcamp = registrations.get(i).bootcamp();
+            BootcampRegistrationResult created = validated.get(i) == TechnicalMessage.BOOTCAMP_CREATED
+                    ? createdByName.get(normalizeName(bootcamp.name()))
+                    : null;
+            results.add(created != null
+                    ? created
+                    : new BootcampRegistrationResult(bootcamp.name(), null,
+                    validated.get(i) == TechnicalMessage.BOOTCAMP_CREATED
+                            ? TechnicalMessage.BOOTCAMP_ASSOCIATION_FAILED
+                            : validated.get(i)));
+        }
+        return results;
+    }
+
+    private String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public Flux<BootcampWithCapacitiesAndTechnologies> listBootcampsPagedAndSorted(
-            int page, int size, String sortBy, String direction) {
-        return bootcampQueryPort.listBootcampsPagedAndSorted(page, size, sortBy, direction);
+            int page, int size, String sortBy, String direction, BootcampListInclude include) {
+        return bootcampQueryPort.listBootcampsPagedAndSorted(page, size, sortBy, direction, include);
+    }
+
+    @Override
+    public Flux<BootcampWithCapacitiesAndTechnologies> streamBootcampsPagedAndSorted(
+            int page, int size, String sortBy, String direction, BootcampListInclude include) {
+        return bootcampQueryPort.streamBootcampsPagedAndSorted(page, size, sortBy, direction, include);
+    }
+
+    @Override
+    public Mono<BootcampCursorPage> listBootcampsByCursor(
+            String cursor, int size, String sortBy, String direction) {
+        return bootcampQueryPort.listBootcampsByCursor(cursor, size, sortBy, direction);
+    }
+
+    @Override
+    public Mono<BootcampMultiGetResult> getBootcampsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_MULTI_GET_SIZE) {
+            return Mono.error(new BusinessException(TechnicalMessage.INVALID_BOOTCAMP_IDS));
+        }
+        return bootcampQueryPort.findBootcampsByIds(List.copyOf(new LinkedHashSet<>(ids)));
+    }
+
+    @Override
+    public Mono<BootcampWithCapacitiesAndTechnologies> getBootcampById(Long id) {
+        return bootcampQueryPort.findBootcampById(id)
+                .switchIfEmpty(Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_NOT_FOUND)));
     }
 
     @Override
     public Mono<Void> deleteBootcampAndCascade(Long bootcampId) {
         return bootcampCapacityAssociationPort.deleteCapacitiesByBootcampId(bootcampId)
-                .then(bootcampPersistencePort.deleteById(bootcampId));
+                .then(bootcampPersistencePort.deleteById(bootcampId))
+                .then(bootcampCachePort.evict(bootcampId))
+                .then(bootcampListCachePort.invalidateAll());
     }
 
     @Override
     public Mono<List<Long>> validateAndReturnIds(List<Long> ids) {
-        return Flux.fromIterable(ids)
-                .flatMap(id ->
-                        bootcampPersistencePort.existsById(id)
-                                .flatMap(exists -> {
-                                    if (Boolean.FALSE.equals(exists)) {
-                                        return Mono.error(new BusinessException(
-                                                TechnicalMessage.BOOTCAMP_NOT_FOUND
-                                        ));
-                                    }
-                                    return bootcampPersistencePort.findById(id);
-                                })
-                )
-                .collectList()
-                .flatMap(bootcamps -> {
-                    for (int i = 0; i < bootcamps.size(); i++) {
-                        for (int j = i + 1; j < bootcamps.size(); j++) {
-                            Bootcamp b1 = bootcamps.get(i);
-                            Bootcamp b2 = bootcamps.get(j);
-                            if (Objects.equals(b1.releaseDate(), b2.releaseDate())
-                                    || Objects.equals(b1.duration(), b2.duration())) {
-                                return Mono.error(new BusinessException(
-                                        TechnicalMessage.BOOTCAMP_DUPLICATE_DATE_DURATION
-                                        ));
-                            }
+        if (ids.isEmpty()) {
+            return Mono.just(ids);
+        }
+        return bootcampPersistencePort.findAllById(new HashSet<>(ids))
+                .collectMap(Bootcamp::id)
+                .flatMap(bootcampsById -> {
+                    if (!bootcampsById.keySet().containsAll(ids)) {
+                        return Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_NOT_FOUND));
+                    }
+                    Set<LocalDate> releaseDates = new HashSet<>();
+                    Set<Integer> durations = new HashSet<>();
+                    for (Long id : ids) {
+                        Bootcamp bootcamp = bootcampsById.get(id);
+                        if (!releaseDates.add(bootcamp.releaseDate()) || !durations.add(bootcamp.duration())) {
+                            return Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_DUPLICATE_DATE_DURATION));
                         }
                     }
                     return Mono.just(ids);
                 });
     }
 
-
-
-
     private Mono<Void> validateCapacity(Bootcamp bootcamp) {
         if (bootcamp.name() == null || bootcamp.name().isBlank() || bootcamp.name().length() > 50) {
             return Mono.error(new BusinessException(TechnicalMessage.INVALID_CAPACITY_NAME));
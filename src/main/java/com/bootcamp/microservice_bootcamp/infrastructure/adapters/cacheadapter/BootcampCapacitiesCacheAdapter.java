@@ -0,0 +1,53 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.CapacityWithTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class BootcampCapacitiesCacheAdapter implements IBootcampCachePort {
+
+    private final Cache<Long, List<CapacityWithTechnologies>> capacitiesCache;
+    private final AsyncCache<Long, BootcampWithCapacitiesAndTechnologies> bootcampDetailCache;
+
+    public Map<Long, List<CapacityWithTechnologies>> getAllPresent(List<Long> bootcampIds) {
+        return capacitiesCache.getAllPresent(bootcampIds);
+    }
+
+    public void putAll(Map<Long, List<CapacityWithTechnologies>> capacitiesByBootcampId) {
+        capacitiesCache.putAll(capacitiesByBootcampId);
+    }
+
+    /**
+     * Concurrent callers for the same id share one in-flight load. Empty results and errors are not cached, and
+     * degraded results are dropped once delivered so the next request retries the enrichment.
+     */
+    public Mono<BootcampWithCapacitiesAndTechnologies> getDetail(
+            Long bootcampId, Function<Long, Mono<BootcampWithCapacitiesAndTechnologies>> loader) {
+        return Mono.fromFuture(() -> bootcampDetailCache.get(bootcampId, (id, executor) -> loader.apply(id).toFuture()),
+                        true)
+                .doOnNext(bootcamp -> {
+                    if (bootcamp.degraded()) {
+                        bootcampDetailCache.synchronous().invalidate(bootcampId);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Void> evict(Long bootcampId) {
+        return Mono.fromRunnable(() -> {
+            capacitiesCache.invalidate(bootcampId);
+            bootcampDetailCache.synchronous().invalidate(bootcampId);
+        });
+    }
+}
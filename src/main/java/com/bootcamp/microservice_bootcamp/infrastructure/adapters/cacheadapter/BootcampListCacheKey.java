@@ -0,0 +1,14 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+
+import java.util.Set;
+
+public record BootcampListCacheKey(
+        int page,
+        int size,
+        String sortBy,
+        String direction,
+        BootcampListInclude include,
+        Set<String> fields
+) {}
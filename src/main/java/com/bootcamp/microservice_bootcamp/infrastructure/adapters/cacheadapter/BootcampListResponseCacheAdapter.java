@@ -0,0 +1,47 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class BootcampListResponseCacheAdapter implements IBootcampListCachePort {
+
+    private final Cache<BootcampListCacheKey, CachedBootcampListPage> listResponseCache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachedBootcampListPage getIfPresent(BootcampListCacheKey key) {
+        return listResponseCache.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a response computed while {@code computedAtGeneration} was current. Responses that raced with an
+     * invalidation are dropped so a page read before a create or delete is never served after it.
+     */
+    public void put(BootcampListCacheKey key, long computedAtGeneration, CachedBootcampListPage page) {
+        if (generation.get() != computedAtGeneration) {
+            return;
+        }
+        listResponseCache.put(key, page);
+        if (generation.get() != computedAtGeneration) {
+            listResponseCache.invalidate(key);
+        }
+    }
+
+    @Override
+    public Mono<Void> invalidateAll() {
+        return Mono.fromRunnable(() -> {
+            generation.incrementAndGet();
+            listResponseCache.invalidateAll();
+        });
+    }
+}
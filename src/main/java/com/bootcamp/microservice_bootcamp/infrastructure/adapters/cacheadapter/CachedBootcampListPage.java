@@ -0,0 +1,12 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter;
+
+import org.springframework.util.DigestUtils;
+
+public record CachedBootcampListPage(
+        byte[] body,
+        String etag
+) {
+    public static CachedBootcampListPage of(byte[] body) {
+        return new CachedBootcampListPage(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
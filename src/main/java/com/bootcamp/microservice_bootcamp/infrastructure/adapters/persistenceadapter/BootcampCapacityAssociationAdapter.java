@@ -1,12 +1,19 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
 
 
+import com.bootcamp.microservice_bootcamp.domain.enums.CapacityAssociationOutcome;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceGuard;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceRetryPolicy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -14,34 +21,101 @@ import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class BootcampCapacityAssociationAdapter implements IBootcampCapacityAssociationPort {
 
     private final WebClient webClient;
+    private final CapacityServiceGuard capacityServiceGuard;
+    private final CapacityServiceRetryPolicy retryPolicy;
 
     @Value("${technology.service.url:http://localhost:8081}")
     private String capacityUrlService;
 
     @Override
     public Mono<Boolean> associateCapacityToBootcamp(Long capacityId, List<Long> technologyIds) {
+        return associate(capacityId, technologyIds)
+                .map(CapacityAssociationOutcome.ASSOCIATED::equals)
+                .onErrorReturn(false);
+    }
+
+    private Mono<CapacityAssociationOutcome> associate(Long bootcampId, List<Long> capacityIds) {
         Map<String, Object> body = Map.of(
-                "bootcampId", capacityId,
-                "capacityIds", technologyIds
+                "bootcampId", bootcampId,
+                "capacityIds", capacityIds
         );
-        return webClient.post()
-                .uri(capacityUrlService + "/capacity/bootcamp/associate")
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(String.class)
-                .map(response -> true)
-                .onErrorResume(e -> Mono.just(false));
+        return retryPolicy.nonIdempotent(capacityServiceGuard.protectNonIdempotent("associate", webClient.post()
+                        .uri(capacityUrlService + "/capacity/bootcamp/associate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(String.class)))
+                .thenReturn(CapacityAssociationOutcome.ASSOCIATED)
+                .onErrorResume(e -> !capacityServiceGuard.isRejection(e), e -> {
+                    log.warn("Associating capacities {} to bootcamp {} failed", capacityIds, bootcampId, e);
+                    return Mono.just(isPermanentRejection(e)
+                            ? CapacityAssociationOutcome.REJECTED
+                            : CapacityAssociationOutcome.RETRYABLE);
+                });
+    }
+
+    /**
+     * A bulk call the capacity service refuses as a whole (4xx) is replayed one bootcamp at a time, so a single
+     * bad entry is classified as rejected without taking the rest of the batch down with it. Entries the bulk
+     * response reports as not associated, and entries missing from it, are left to be retried.
+     */
+    @Override
+    public Mono<Map<Long, CapacityAssociationOutcome>> associateCapacitiesInBulk(
+            Map<Long, List<Long>> capacityIdsByBootcampId) {
+        List<Map<String, Object>> body = capacityIdsByBootcampId.entrySet().stream()
+                .map(entry -> Map.<String, Object>of(
+                        "bootcampId", entry.getKey(),
+                        "capacityIds", entry.getValue()))
+                .toList();
+        return retryPolicy.nonIdempotent(capacityServiceGuard.protectNonIdempotent("associateBulk", webClient.post()
+                        .uri(capacityUrlService + "/capacity/bootcamp/associate/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToFlux(new ParameterizedTypeReference<Map<String, Object>>() {})
+                        .collectMap(
+                                x -> Long.valueOf(x.get("bootcampId").toString()),
+                                x -> Boolean.TRUE.equals(x.get("associated"))
+                                        ? CapacityAssociationOutcome.ASSOCIATED
+                                        : CapacityAssociationOutcome.RETRYABLE)))
+                .onErrorResume(e -> isBulkEndpointUnsupported(e) || isPermanentRejection(e),
+                        ex -> associateOneByOne(capacityIdsByBootcampId))
+                .onErrorResume(e -> !capacityServiceGuard.isRejection(e), e -> {
+                    log.warn("Bulk association for bootcamps {} failed", capacityIdsByBootcampId.keySet(), e);
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private Mono<Map<Long, CapacityAssociationOutcome>> associateOneByOne(Map<Long, List<Long>> capacityIdsByBootcampId) {
+        return Flux.fromIterable(capacityIdsByBootcampId.entrySet())
+                .flatMap(entry -> associate(entry.getKey(), entry.getValue())
+                        .map(outcome -> Map.entry(entry.getKey(), outcome)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private boolean isBulkEndpointUnsupported(Throwable ex) {
+        if (ex instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 404 || status == 405 || status == 501;
+        }
+        return false;
+    }
+
+    private boolean isPermanentRejection(Throwable ex) {
+        return ex instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError()
+                && responseException.getStatusCode().value() != 429;
     }
 
     @Override
     public Mono<Void> deleteCapacitiesByBootcampId(Long bootcampId) {
-        return webClient.delete()
+        return retryPolicy.idempotent(capacityServiceGuard.protect("exclusiveDelete", webClient.delete()
                 .uri(capacityUrlService + "/capacity/bootcamp/{bootcampId}/exclusive-delete", bootcampId)
                 .retrieve()
-                .bodyToMono(Void.class);
+                .bodyToMono(Void.class)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.enums.CapacityAssociationOutcome;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityOutboxEntity;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "bootcamp.association.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class BootcampCapacityOutboxDispatcher {
+
+    private final IBootcampCapacityOutboxRepository outboxRepository;
+    private final IBootcampRepository bootcampRepository;
+    private final IBootcampCapacityAssociationPort bootcampCapacityAssociationPort;
+    private final IBootcampCachePort bootcampCachePort;
+    private final IBootcampListCachePort bootcampListCachePort;
+    private final CapacityServiceGuard capacityServiceGuard;
+
+    private final AtomicLong failedEntries = new AtomicLong();
+    private final Counter abandonedEntries;
+    private final Counter rejectedEntries;
+
+    private Clock clock = Clock.systemUTC();
+    private Disposable subscription;
+
+    @Value("${bootcamp.association.outbox.poll-interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${bootcamp.association.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${bootcamp.association.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${bootcamp.association.outbox.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${bootcamp.association.outbox.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    @Value("${bootcamp.association.outbox.lease:30s}")
+    private Duration lease;
+
+    @Value("${bootcamp.association.outbox.failed-redrive-after:1h}")
+    private Duration failedRedriveAfter;
+
+    @Value("${bootcamp.association.outbox.failed-check-interval:1m}")
+    private Duration failedCheckInterval;
+
+    public BootcampCapacityOutboxDispatcher(IBootcampCapacityOutboxRepository outboxRepository,
+                                            IBootcampRepository bootcampRepository,
+                                            IBootcampCapacityAssociationPort bootcampCapacityAssociationPort,
+                                            IBootcampCachePort bootcampCachePort,
+                                            IBootcampListCachePort bootcampListCachePort,
+                                            CapacityServiceGuard capacityServiceGuard,
+                                            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.bootcampRepository = bootcampRepository;
+        this.bootcampCapacityAssociationPort = bootcampCapacityAssociationPort;
+        this.bootcampCachePort = bootcampCachePort;
+        this.bootcampListCachePort = bootcampListCachePort;
+        this.capacityServiceGuard = capacityServiceGuard;
+        this.abandonedEntries = Counter.builder("bootcamp.association.outbox.abandoned")
+                .description("Outbox entries marked FAILED after exhausting their attempts")
+                .register(meterRegistry);
+        this.rejectedEntries = Counter.builder("bootcamp.association.outbox.rejected")
+                .description("Outbox entries the capacity service rejected permanently, with their bootcamp removed")
+                .register(meterRegistry);
+        Gauge.builder("bootcamp.association.outbox.failed", failedEntries, AtomicLong::get)
+                .description("Outbox entries currently in FAILED status")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Disposables.composite(
+                Flux.interval(pollInterval)
+                        .onBackpressureDrop()
+                        .concatMap(tick -> dispatchBatch()
+                                .onErrorResume(ex -> {
+                                    log.error("Capacity association outbox dispatch failed", ex);
+                                    return Mono.just(0L);
+                                }))
+                        .subscribe(),
+                Flux.interval(Duration.ZERO, failedCheckInterval)
+                        .onBackpressureDrop()
+                        .concatMap(tick -> redriveFailed()
+                                .onErrorResume(ex -> {
+                                    log.error("Capacity association outbox re-drive failed", ex);
+                                    return Mono.just(0);
+                                }))
+                        .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Puts FAILED entries whose re-drive time has passed back to PENDING with a fresh attempt budget, and refreshes
+     * the FAILED gauge. Only retryable failures are ever parked as FAILED; permanent rejections are compensated
+     * in {@link #reject} and never come back. The bootcamp keeps capacity_count = 0 until a re-drive succeeds.
+     */
+    public Mono<Integer> redriveFailed() {
+        return outboxRepository.redriveFailed(LocalDateTime.now(clock))
+                .doOnNext(redriven -> {
+                    if (redriven > 0) {
+                        log.warn("Re-driving {} failed capacity association outbox entries", redriven);
+                    }
+                })
+                .flatMap(redriven -> outboxRepository.countByStatus(BootcampCapacityOutboxEntity.STATUS_FAILED)
+                        .doOnNext(failedEntries::set)
+                        .thenReturn(redriven));
+    }
+
+    public Mono<Long> dispatchBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now(clock);
+        return outboxRepository.claimDue(claimToken, now, now.plus(lease), batchSize)
+                .filter(claimed -> claimed > 0)
+                .flatMapMany(claimed -> outboxRepository.findByClaimedBy(claimToken))
+                .collectList()
+                .filter(entries -> !entries.isEmpty())
+                .flatMap(this::dispatch)
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Long> dispatch(List<BootcampCapacityOutboxEntity> entries) {
+        Map<Long, List<Long>> capacityIdsByBootcampId = entries.stream()
+                .collect(Collectors.toMap(BootcampCapacityOutboxEntity::getBootcampId,
+                        BootcampCapacityOutboxEntity::capacityIdList, (first, second) -> second));
+
+        return bootcampCapacityAssociationPort.associateCapacitiesInBulk(capacityIdsByBootcampId)
+                .flatMapMany(outcomes -> Flux.fromIterable(entries)
+                        .concatMap(entry -> switch (outcomes.getOrDefault(entry.getBootcampId(),
+                                CapacityAssociationOutcome.RETRYABLE)) {
+                            case ASSOCIATED -> complete(entry);
+                            case REJECTED -> reject(entry);
+                            case RETRYABLE -> reschedule(entry);
+                        }))
+                .filter(Boolean::booleanValue)
+                .count()
+                .onErrorResume(capacityServiceGuard::isRejection, ex -> {
+                    log.warn("Capacity service rejected association of bootcamps {}, releasing without an attempt",
+                            capacityIdsByBootcampId.keySet());
+                    return Flux.fromIterable(entries)
+                            .concatMap(this::release)
+                            .then(Mono.just(0L));
+                });
+    }
+
+    private Mono<BootcampCapacityOutboxEntity> release(BootcampCapacityOutboxEntity entry) {
+        entry.setClaimedBy(null);
+        entry.setNextAttemptAt(LocalDateTime.now(clock).plus(initialBackoff));
+        return outboxRepository.save(entry);
+    }
+
+    private Mono<Boolean> complete(BootcampCapacityOutboxEntity entry) {
+        return bootcampRepository.updateCapacityCount(entry.getBootcampId(), entry.capacityIdList().size())
+                .then(bootcampCachePort.evict(entry.getBootcampId()))
+                .then(bootcampListCachePort.invalidateAll())
+                .then(outboxRepository.deleteById(entry.getId()))
+                .thenReturn(true);
+    }
+
+    /**
+     * The capacity service refused the association outright (e.g. unknown capacity ids), so retrying cannot help.
+     * The bootcamp is removed, as the synchronous flow used to do, which also drops its outbox row.
+     */
+    private Mono<Boolean> reject(BootcampCapacityOutboxEntity entry) {
+        rejectedEntries.increment();
+        log.error("Capacity service rejected capacities {} for bootcamp {}, removing the bootcamp",
+                entry.getCapacityIds(), entry.getBootcampId());
+        return bootcampRepository.deleteById(entry.getBootcampId())
+                .then(outboxRepository.deleteById(entry.getId()))
+                .then(bootcampCachePort.evict(entry.getBootcampId()))
+                .then(bootcampListCachePort.invalidateAll())
+                .thenReturn(false);
+    }
+
+    private Mono<Boolean> reschedule(BootcampCapacityOutboxEntity entry) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setClaimedBy(null);
+        if (attempts >= maxAttempts) {
+            entry.setStatus(BootcampCapacityOutboxEntity.STATUS_FAILED);
+            entry.setNextAttemptAt(LocalDateTime.now(clock).plus(failedRedriveAfter));
+            abandonedEntries.increment();
+            failedEntries.incrementAndGet();
+            log.error("Giving up associating capacities {} to bootcamp {} after {} attempts, re-driving in {}",
+                    entry.getCapacityIds(), entry.getBootcampId(), attempts, failedRedriveAfter);
+        } else {
+            entry.setNextAttemptAt(LocalDateTime.now(clock).plus(backoff(attempts)));
+        }
+        return outboxRepository.save(entry).thenReturn(false);
+    }
+
+    Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+}
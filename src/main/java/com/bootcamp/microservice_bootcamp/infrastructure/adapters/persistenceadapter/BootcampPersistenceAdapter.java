@@ -1,18 +1,35 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
 
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityOutboxEntity;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @AllArgsConstructor
 public class BootcampPersistenceAdapter implements IBootcampPersistencePort {
+    private static final int BULK_INSERT_BATCH_SIZE = 100;
+
     private final IBootcampRepository bootcampRepository;
     private final IBootcampEntityMapper bootcampEntityMapper;
+    private final DatabaseClient databaseClient;
+    private final IBootcampCapacityOutboxRepository outboxRepository;
 
     @Override
     public Mono<Bootcamp> save(Bootcamp capacity) {
@@ -21,6 +38,16 @@ public class BootcampPersistenceAdapter implements IBootcampPersistencePort {
                 .map(bootcampEntityMapper::toModel);
     }
 
+    @Override
+    @Transactional
+    public Mono<Bootcamp> saveWithPendingAssociation(Bootcamp bootcamp, List<Long> capacityIds) {
+        return bootcampRepository.save(bootcampEntityMapper.toEntity(bootcamp))
+                .flatMap(saved -> outboxRepository.save(BootcampCapacityOutboxEntity.pending(
+                                saved.getId(), capacityIds, LocalDateTime.now(ZoneOffset.UTC)))
+                        .thenReturn(saved))
+                .map(bootcampEntityMapper::toModel);
+    }
+
     @Override
     public Mono<Boolean> existsByName(String name) {
         return bootcampRepository.findByName(name)
@@ -46,5 +73,106 @@ public class BootcampPersistenceAdapter implements IBootcampPersistencePort {
                 .map(bootcampEntityMapper::toModel);
     }
 
+    @Override
+    public Flux<Bootcamp> findAllById(Collection<Long> ids) {
+        return bootcampRepository.findAllById(ids)
+                .map(bootcampEntityMapper::toModel);
+    }
+
+    @Override
+    public Mono<Void> updateCapacityCount(Long id, int capacityCount) {
+        return bootcampRepository.updateCapacityCount(id, capacityCount)
+                .then();
+    }
+
+    @Override
+    public Mono<Set<String>> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return bootcampRepository.findAllByNameIn(names)
+                .map(BootcampEntity::getName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Bulk counterpart of {@link #saveWithPendingAssociation}: every bootcamp is written together with its outbox
+     * entry, so bulk and single registrations share the same asynchronous association path.
+     */
+    @Override
+    @Transactional
+    public Flux<Bootcamp> saveAllWithPendingAssociation(List<BootcampRegistration> registrations) {
+        return Flux.fromIterable(registrations)
+                .buffer(BULK_INSERT_BATCH_SIZE)
+                .concatMap(batch -> insertBatch(batch)
+                        .collectList()
+                        .flatMapMany(saved -> insertPendingAssociations(saved, batch)
+                                .thenMany(Flux.fromIterable(saved))));
+    }
+
+    /**
+     * Inserts one multi-row batch and pairs the generated keys, which the driver returns in insertion order, with the
+     * submitted bootcamps.
+     */
+    private Flux<Bootcamp> insertBatch(List<BootcampRegistration> batch) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO bootcamp (name, description, release_date, duration) VALUES ");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:name").append(i)
+                    .append(", :description").append(i)
+                    .append(", :releaseDate").append(i)
+                    .append(", :duration").append(i).append(")");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < batch.size(); i++) {
+            Bootcamp bootcamp = batch.get(i).bootcamp();
+            spec = bind(spec, "name" + i, bootcamp.name(), String.class);
+            spec = bind(spec, "description" + i, bootcamp.description(), String.class);
+            spec = bind(spec, "releaseDate" + i, bootcamp.releaseDate(), LocalDate.class);
+            spec = bind(spec, "duration" + i, bootcamp.duration(), Integer.class);
+        }
+        return spec.filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .all()
+                .zipWithIterable(batch, (id, registration) -> {
+                    Bootcamp bootcamp = registration.bootcamp();
+                    return new Bootcamp(id, bootcamp.name(), bootcamp.description(), bootcamp.releaseDate(),
+                            bootcamp.duration());
+                });
+    }
+
+    private Mono<Void> insertPendingAssociations(List<Bootcamp> saved, List<BootcampRegistration> batch) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        StringBuilder sql = new StringBuilder("INSERT INTO bootcamp_capacity_outbox " +
+                "(bootcamp_id, capacity_ids, status, attempts, next_attempt_at, created_at) VALUES ");
+        for (int i = 0; i < saved.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:bootcampId").append(i)
+                    .append(", :capacityIds").append(i)
+                    .append(", :status").append(i)
+                    .append(", :attempts").append(i)
+                    .append(", :nextAttemptAt").append(i)
+                    .append(", :createdAt").append(i).append(")");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < saved.size(); i++) {
+            BootcampCapacityOutboxEntity entry = BootcampCapacityOutboxEntity.pending(
+                    saved.get(i).id(), batch.get(i).capacityIds(), now);
+            spec = spec.bind("bootcampId" + i, entry.getBootcampId())
+                    .bind("capacityIds" + i, entry.getCapacityIds())
+                    .bind("status" + i, entry.getStatus())
+                    .bind("attempts" + i, entry.getAttempts())
+                    .bind("nextAttemptAt" + i, entry.getNextAttemptAt())
+                    .bind("createdAt" + i, entry.getCreatedAt());
+        }
+        return spec.then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                          Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
 
 }
\ No newline at end of file
@@ -1,132 +1,336 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
 
+import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
+import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
 import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
 import com.bootcamp.microservice_bootcamp.domain.model.CapacityWithTechnologies;
 import com.bootcamp.microservice_bootcamp.domain.model.TechnologySummary;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.BootcampCapacitiesCacheAdapter;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.BootcampCapacitiesResponse;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.CapacityWithTechnologiesResponse;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.TechnologyResponse;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.util.BootcampCursor;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceGuard;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceRetryPolicy;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.HedgedRequestExecutor;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class BootcampQueryAdapter implements IBootcampQueryPort {
 
+    private static final String SORT_BY_NAME = "name";
+    private static final String SORT_BY_CAPACITY_COUNT = "capacityCount";
+    private static final String ASC = "asc";
+    private static final String DESC = "desc";
+    private static final int STREAMING_ENRICHMENT_CONCURRENCY = 4;
+
     private final IBootcampRepository bootcampRepository;
     private final IBootcampEntityMapper bootcampEntityMapper;
     private final WebClient webClient;
+    private final BootcampCapacitiesCacheAdapter capacitiesCache;
+    private final CapacityServiceGuard capacityServiceGuard;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final CapacityServiceRetryPolicy retryPolicy;
+    private final StageMetrics stageMetrics;
+
+    private final AtomicReference<Instant> batchEnrichmentUnsupportedUntil = new AtomicReference<>(Instant.MIN);
+    private Clock clock = Clock.systemUTC();
 
     @Value("${capacity.service.url:http://localhost:8081}")
     private String capacityServiceUrl;
 
+    @Value("${capacity.service.enrichment.batch-size:50}")
+    private int enrichmentBatchSize;
+
+    @Value("${capacity.service.enrichment.batch-reprobe-interval:1m}")
+    private Duration batchReprobeInterval;
+
+    @Value("${capacity.service.enrichment.streaming-batch-size:5}")
+    private int streamingBatchSize;
+
+    @Value("${capacity.service.enrichment.streaming-max-wait:20ms}")
+    private Duration streamingMaxWait;
+
     @Override
     public Flux<BootcampWithCapacitiesAndTechnologies> listBootcampsPagedAndSorted(
-            int page, int size, String sortBy, String direction) {
+            int page, int size, String sortBy, String direction, BootcampListInclude include) {
+        return findEnrichedPage(page, size, sortBy, direction, include, this::enrichBootcamps,
+                "listBootcampsPagedAndSorted");
+    }
 
-        if ("capacityCount".equalsIgnoreCase(sortBy)) {
-            return getBootcampRelationCounts()
-                    .flatMapMany(bootcampIdToCount -> findAndSortBootcampsByRelationCount(bootcampIdToCount, page, size, direction)
-                            .flatMap(this::enrichBootcampWithCapacitiesAndTechnologies));
-        } else {
-            return bootcampRepository.findAll()
-                    .collectList()
-                    .flatMapMany(entities -> sortAndPaginateBootcamps(entities, page, size, direction))
-                    .flatMap(this::enrichBootcampWithCapacitiesAndTechnologies);
+    /**
+     * Same page as {@link #listBootcampsPagedAndSorted}, but enriched in small chunks so a streaming response can
+     * flush its first bootcamps while the rest of the page is still being enriched.
+     */
+    @Override
+    public Flux<BootcampWithCapacitiesAndTechnologies> streamBootcampsPagedAndSorted(
+            int page, int size, String sortBy, String direction, BootcampListInclude include) {
+        return findEnrichedPage(page, size, sortBy, direction, include, this::enrichBootcampsForStreaming,
+                "streamBootcampsPagedAndSorted");
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologies> findEnrichedPage(
+            int page, int size, String sortBy, String direction, BootcampListInclude include,
+            Function<Flux<BootcampEntity>, Flux<BootcampWithCapacitiesAndTechnologies>> enrichment,
+            String operation) {
+        Flux<BootcampEntity> entities = findBootcampsPage(page, size, sortBy, direction);
+        if (!include.capacities()) {
+            return stageMetrics.time(StageMetrics.QUERY, operation,
+                    entities.map(entity -> toBootcampWithCapacities(entity, List.of())));
         }
+        Flux<BootcampWithCapacitiesAndTechnologies> enriched = entities.transform(enrichment);
+        return stageMetrics.time(StageMetrics.QUERY, operation, include.technologies()
+                ? enriched
+                : enriched.map(BootcampQueryAdapter::withoutTechnologies));
     }
 
-    private Mono<Map<Long, Integer>> getBootcampRelationCounts() {
-        return webClient.get()
-                .uri(capacityServiceUrl + "/capacity/bootcamp/relation-counts")
-                .retrieve()
-                .bodyToFlux(new ParameterizedTypeReference<Map<String, Object>>() {})
+    @Override
+    public Mono<BootcampCursorPage> listBootcampsByCursor(
+            String cursor, int size, String sortBy, String direction) {
+        String sortKey = SORT_BY_CAPACITY_COUNT.equalsIgnoreCase(sortBy) ? SORT_BY_CAPACITY_COUNT : SORT_BY_NAME;
+        String sortDirection = DESC.equalsIgnoreCase(direction) ? DESC : ASC;
+        int pageSize = Math.max(size, 1);
+
+        Mono<BootcampCursorPage> page = cursor == null || cursor.isBlank()
+                ? findCursorPage(null, pageSize, sortKey, sortDirection)
+                : Mono.fromCallable(() -> BootcampCursor.decode(cursor))
+                .filter(after -> after.matches(sortKey, sortDirection) && hasValidKey(after))
+                .switchIfEmpty(Mono.error(new BusinessException(TechnicalMessage.INVALID_CURSOR)))
+                .flatMap(after -> findCursorPage(after, pageSize, sortKey, sortDirection));
+        return stageMetrics.time(StageMetrics.QUERY, "listBootcampsByCursor", page);
+    }
+
+    @Override
+    public Mono<BootcampMultiGetResult> findBootcampsByIds(List<Long> ids) {
+        return stageMetrics.time(StageMetrics.QUERY, "findBootcampsByIds",
+                stageMetrics.time(StageMetrics.DATABASE, "findAllById", bootcampRepository.findAllById(ids))
+                        .collectMap(BootcampEntity::getId)
+                        .flatMap(entitiesById -> Flux.fromIterable(ids)
+                                .mapNotNull(entitiesById::get)
+                                .transform(this::enrichBootcamps)
+                                .collectList()
+                                .map(bootcamps -> new BootcampMultiGetResult(bootcamps, ids.stream()
+                                        .filter(id -> !entitiesById.containsKey(id))
+                                        .toList()))));
+    }
+
+    @Override
+    public Mono<BootcampWithCapacitiesAndTechnologies> findBootcampById(Long id) {
+        return stageMetrics.time(StageMetrics.QUERY, "findBootcampById",
+                capacitiesCache.getDetail(id, this::loadBootcamp));
+    }
+
+    private Mono<BootcampWithCapacitiesAndTechnologies> loadBootcamp(Long id) {
+        return stageMetrics.time(StageMetrics.DATABASE, "findById", bootcampRepository.findById(id))
+                .flux()
+                .transform(this::enrichBootcamps)
+                .next();
+    }
+
+    private boolean hasValidKey(BootcampCursor cursor) {
+        return !SORT_BY_CAPACITY_COUNT.equals(cursor.sortBy()) || cursor.key().matches("\\d{1,9}");
+    }
+
+    private Mono<BootcampCursorPage> findCursorPage(BootcampCursor after, int size, String sortKey, String direction) {
+        return findBootcampsAfter(after, size + 1, sortKey, direction)
                 .collectList()
-                .map(countsList -> {
-                    Map<Long, Integer> bootcampIdToCount = new HashMap<>();
-                    for (Map<String, Object> m : countsList) {
-                        Long bootcampId = Long.valueOf(m.get("bootcampId").toString());
-                        Integer relationCount = Integer.valueOf(m.get("relationCount").toString());
-                        bootcampIdToCount.put(bootcampId, relationCount);
-                    }
-                    return bootcampIdToCount;
-                });
+                .flatMap(entities -> toCursorPage(entities, size, entity -> new BootcampCursor(
+                        sortKey, direction, entity.getId(), cursorKey(entity, sortKey))));
+    }
+
+    private String cursorKey(BootcampEntity entity, String sortKey) {
+        return SORT_BY_CAPACITY_COUNT.equals(sortKey)
+                ? String.valueOf(entity.getCapacityCount())
+                : entity.getName();
     }
 
-    private Flux<BootcampEntity> findAndSortBootcampsByRelationCount(Map<Long, Integer> bootcampIdToCount, int page, int size, String direction) {
-        List<Long> bootcampIds = new ArrayList<>(bootcampIdToCount.keySet());
-        return bootcampRepository.findAllById(bootcampIds)
+    private Mono<BootcampCursorPage> toCursorPage(List<BootcampEntity> entities, int size,
+                                                  Function<BootcampEntity, BootcampCursor> cursorOf) {
+        boolean hasNext = entities.size() > size;
+        List<BootcampEntity> pageEntities = hasNext ? entities.subList(0, size) : entities;
+        String nextCursor = hasNext ? cursorOf.apply(pageEntities.get(size - 1)).encode() : null;
+        return Flux.fromIterable(pageEntities)
+                .transform(this::enrichBootcamps)
                 .collectList()
-                .flatMapMany(entities -> {
-                    entities.sort((a, b) -> {
-                        int cmp = Integer.compare(
-                                bootcampIdToCount.getOrDefault(a.getId(), 0),
-                                bootcampIdToCount.getOrDefault(b.getId(), 0)
-                        );
-                        if ("desc".equalsIgnoreCase(direction)) cmp = -cmp;
-                        return cmp;
-                    });
-                    return Flux.fromIterable(paginateList(entities, page, size));
+                .map(bootcamps -> new BootcampCursorPage(bootcamps, nextCursor));
+    }
+
+    private Flux<BootcampEntity> findBootcampsAfter(BootcampCursor after, int limit, String sortKey, String direction) {
+        if (after == null) {
+            return findBootcampsPage(0, limit, sortKey, direction);
+        }
+        boolean descending = DESC.equals(direction);
+        Flux<BootcampEntity> entities;
+        if (SORT_BY_CAPACITY_COUNT.equals(sortKey)) {
+            int capacityCount = Integer.parseInt(after.key());
+            entities = descending
+                    ? bootcampRepository.findPageAfterCapacityCountDesc(capacityCount, after.id(), limit)
+                    : bootcampRepository.findPageAfterCapacityCountAsc(capacityCount, after.id(), limit);
+        } else {
+            entities = descending
+                    ? bootcampRepository.findPageAfterNameDesc(after.key(), after.id(), limit)
+                    : bootcampRepository.findPageAfterNameAsc(after.key(), after.id(), limit);
+        }
+        return stageMetrics.time(StageMetrics.DATABASE, "findPageAfter", entities);
+    }
+
+    private Flux<BootcampEntity> findBootcampsPage(int page, int size, String sortBy, String direction) {
+        long offset = (long) page * size;
+        boolean descending = DESC.equalsIgnoreCase(direction);
+        Flux<BootcampEntity> entities;
+        if (SORT_BY_CAPACITY_COUNT.equalsIgnoreCase(sortBy)) {
+            entities = descending
+                    ? bootcampRepository.findPageOrderByCapacityCountDesc(size, offset)
+                    : bootcampRepository.findPageOrderByCapacityCountAsc(size, offset);
+        } else {
+            entities = descending
+                    ? bootcampRepository.findPageOrderByNameDesc(size, offset)
+                    : bootcampRepository.findPageOrderByNameAsc(size, offset);
+        }
+        return stageMetrics.time(StageMetrics.DATABASE, "findPage", entities);
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologies> enrichBootcamps(Flux<BootcampEntity> entities) {
+        return entities
+                .buffer(enrichmentBatchSize)
+                .flatMapSequential(this::enrichBootcampChunk);
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologies> enrichBootcampsForStreaming(Flux<BootcampEntity> entities) {
+        return entities
+                .bufferTimeout(streamingBatchSize, streamingMaxWait)
+                .flatMapSequential(this::enrichBootcampChunk, STREAMING_ENRICHMENT_CONCURRENCY);
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologies> enrichBootcampChunk(List<BootcampEntity> chunk) {
+        List<Long> bootcampIds = chunk.stream().map(BootcampEntity::getId).toList();
+        Map<Long, List<CapacityWithTechnologies>> cached = capacitiesCache.getAllPresent(bootcampIds);
+        List<Long> missingIds = bootcampIds.stream().filter(id -> !cached.containsKey(id)).toList();
+
+        return fetchCapacities(missingIds)
+                .map(fetched -> {
+                    Map<Long, List<CapacityWithTechnologies>> loaded = new HashMap<>();
+                    missingIds.forEach(id -> loaded.put(id, fetched.getOrDefault(id, List.of())));
+                    capacitiesCache.putAll(loaded);
+                    loaded.putAll(cached);
+                    return loaded;
+                })
+                .onErrorResume(capacityServiceGuard::isRejection, ex -> Mono.just(cached))
+                .flatMapIterable(capacitiesByBootcampId -> chunk.stream()
+                        .map(entity -> toBootcampWithCapacities(entity, capacitiesByBootcampId.get(entity.getId())))
+                        .toList());
+    }
+
+    private Mono<Map<Long, List<CapacityWithTechnologies>>> fetchCapacities(List<Long> bootcampIds) {
+        if (bootcampIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        if (clock.instant().isBefore(batchEnrichmentUnsupportedUntil.get())) {
+            return fetchCapacitiesOneByOne(bootcampIds);
+        }
+        return fetchCapacitiesByBootcampIds(bootcampIds)
+                .onErrorResume(this::isBatchEndpointUnsupported, ex -> {
+                    batchEnrichmentUnsupportedUntil.set(clock.instant().plus(batchReprobeInterval));
+                    return fetchCapacitiesOneByOne(bootcampIds);
                 });
     }
 
-    private Flux<BootcampEntity> sortAndPaginateBootcamps(List<BootcampEntity> entities, int page, int size, String direction) {
-        entities.sort((a, b) -> {
-            int cmp = a.getName().compareToIgnoreCase(b.getName());
-            if ("desc".equalsIgnoreCase(direction)) cmp = -cmp;
-            return cmp;
-        });
-        return Flux.fromIterable(paginateList(entities, page, size));
+    private Mono<Map<Long, List<CapacityWithTechnologies>>> fetchCapacitiesOneByOne(List<Long> bootcampIds) {
+        return Flux.fromIterable(bootcampIds)
+                .flatMap(id -> enrichBootcampWithCapacitiesAndTechnologies(id)
+                        .map(capacities -> Map.entry(id, capacities)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
     }
 
-    private List<BootcampEntity> paginateList(List<BootcampEntity> entities, int page, int size) {
-        int from = Math.min(page * size, entities.size());
-        int to = Math.min(from + size, entities.size());
-        return entities.subList(from, to);
+    private boolean isBatchEndpointUnsupported(Throwable ex) {
+        if (ex instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 404 || status == 405 || status == 501;
+        }
+        return false;
     }
 
-    private Mono<BootcampWithCapacitiesAndTechnologies> enrichBootcampWithCapacitiesAndTechnologies(BootcampEntity entity) {
-        return webClient.get()
-                .uri(capacityServiceUrl + "/capacity/bootcamp/capacities-technologies?bootcampId={id}", entity.getId())
+    private Mono<Map<Long, List<CapacityWithTechnologies>>> fetchCapacitiesByBootcampIds(List<Long> bootcampIds) {
+        String ids = bootcampIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return retryPolicy.idempotent(hedgedRequestExecutor.execute(() -> capacityServiceGuard.protect("capacitiesTechnologiesBatch", webClient.get()
+                .uri(capacityServiceUrl + "/capacity/bootcamp/capacities-technologies/batch?bootcampIds={ids}", ids)
                 .retrieve()
-                .bodyToFlux(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .collectList()
-                .map(this::mapToCapacitiesWithTechnologies)
-                .map(capacities -> new BootcampWithCapacitiesAndTechnologies(
-                        entity.getId(),
-                        entity.getName(),
-                        entity.getDescription(),
-                        entity.getReleaseDate(),
-                        entity.getDuration(),
-                        capacities
-                ));
-    }
-
-    private List<CapacityWithTechnologies> mapToCapacitiesWithTechnologies(List<Map<String, Object>> capacityList) {
-        return capacityList.stream()
-                .map(x -> {
-                    Long capacityId = Long.valueOf(x.get("id").toString());
-                    String capacityName = (String) x.get("name");
-
-                    @SuppressWarnings("unchecked")
-                    List<Map<String, Object>> techs = (List<Map<String, Object>>) x.getOrDefault("technologies", Collections.emptyList());
-
-                    List<TechnologySummary> technologies = techs.stream()
-                            .map(t -> new TechnologySummary(
-                                    Long.valueOf(t.get("id").toString()),
-                                    t.get("name").toString()))
-                            .toList();
-
-                    return new CapacityWithTechnologies(capacityId, capacityName, technologies);
-                })
+                .bodyToFlux(BootcampCapacitiesResponse.class)
+                .collectMap(
+                        BootcampCapacitiesResponse::bootcampId,
+                        response -> mapToCapacitiesWithTechnologies(response.capacities())))));
+    }
+
+    private Mono<List<CapacityWithTechnologies>> enrichBootcampWithCapacitiesAndTechnologies(Long bootcampId) {
+        return retryPolicy.idempotent(hedgedRequestExecutor.execute(() -> capacityServiceGuard.protect("capacitiesTechnologies", webClient.get()
+                .uri(capacityServiceUrl + "/capacity/bootcamp/capacities-technologies?bootcampId={id}", bootcampId)
+                .retrieve()
+                .bodyToFlux(CapacityWithTechnologiesResponse.class)
+                .map(BootcampQueryAdapter::toCapacityWithTechnologies)
+                .collectList())));
+    }
+
+    private BootcampWithCapacitiesAndTechnologies toBootcampWithCapacities(BootcampEntity entity,
+                                                                           List<CapacityWithTechnologies> capacities) {
+        return new BootcampWithCapacitiesAndTechnologies(
+                entity.getId(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getReleaseDate(),
+                entity.getDuration(),
+                capacities != null ? capacities : List.of(),
+                capacities == null
+        );
+    }
+
+    private static BootcampWithCapacitiesAndTechnologies withoutTechnologies(BootcampWithCapacitiesAndTechnologies bootcamp) {
+        List<CapacityWithTechnologies> capacities = bootcamp.capacities().stream()
+                .map(capacity -> new CapacityWithTechnologies(capacity.id(), capacity.name(), List.of()))
                 .toList();
+        return new BootcampWithCapacitiesAndTechnologies(bootcamp.id(), bootcamp.name(), bootcamp.description(),
+                bootcamp.releaseDate(), bootcamp.duration(), capacities, bootcamp.degraded());
+    }
+
+    static List<CapacityWithTechnologies> mapToCapacitiesWithTechnologies(List<CapacityWithTechnologiesResponse> capacities) {
+        if (capacities == null || capacities.isEmpty()) {
+            return List.of();
+        }
+        List<CapacityWithTechnologies> mapped = new ArrayList<>(capacities.size());
+        for (CapacityWithTechnologiesResponse capacity : capacities) {
+            mapped.add(toCapacityWithTechnologies(capacity));
+        }
+        return mapped;
+    }
+
+    static CapacityWithTechnologies toCapacityWithTechnologies(CapacityWithTechnologiesResponse capacity) {
+        List<TechnologyResponse> technologies = capacity.technologies() != null ? capacity.technologies() : List.of();
+        List<TechnologySummary> summaries = new ArrayList<>(technologies.size());
+        for (TechnologyResponse technology : technologies) {
+            summaries.add(new TechnologySummary(technology.id(), technology.name()));
+        }
+        return new CapacityWithTechnologies(capacity.id(), capacity.name(), summaries);
     }
-}
\ No newline at end of file
+}
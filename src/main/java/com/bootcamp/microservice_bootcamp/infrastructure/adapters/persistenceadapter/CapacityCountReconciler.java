@@ -0,0 +1,47 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.BootcampRelationCountResponse;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "bootcamp.capacity-count.reconcile-on-startup", havingValue = "true")
+public class CapacityCountReconciler {
+
+    private final IBootcampRepository bootcampRepository;
+    private final WebClient webClient;
+
+    @Value("${capacity.service.url:http://localhost:8081}")
+    private String capacityServiceUrl;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile().subscribe(
+                updated -> log.info("Reconciled capacity_count for {} bootcamps", updated),
+                ex -> log.error("Capacity count reconciliation failed", ex));
+    }
+
+    public Mono<Long> reconcile() {
+        return getBootcampRelationCounts()
+                .flatMap(count -> bootcampRepository.updateCapacityCount(count.bootcampId(), count.relationCount()))
+                .count();
+    }
+
+    private Flux<BootcampRelationCountResponse> getBootcampRelationCounts() {
+        return webClient.get()
+                .uri(capacityServiceUrl + "/capacity/bootcamp/relation-counts")
+                .retrieve()
+                .bodyToFlux(BootcampRelationCountResponse.class);
+    }
+}
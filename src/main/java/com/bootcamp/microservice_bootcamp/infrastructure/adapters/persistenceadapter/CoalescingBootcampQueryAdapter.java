@@ -0,0 +1,109 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Lets identical concurrent page queries share one in-flight computation. Subscribers that arrive while a page is
+ * still loading join it and receive every element from the start; once it terminates the next request loads afresh.
+ */
+public class CoalescingBootcampQueryAdapter implements IBootcampQueryPort {
+
+    private final IBootcampQueryPort delegate;
+    private final Map<PageKey, Flux<BootcampWithCapacitiesAndTechnologies>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public CoalescingBootcampQueryAdapter(IBootcampQueryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executed = listCounter(meterRegistry, "executed");
+        this.coalesced = listCounter(meterRegistry, "coalesced");
+        Gauge.builder("bootcamp.list.coalescing.ratio", this, CoalescingBootcampQueryAdapter::coalescingRatio)
+                .description("Share of paged list queries served by joining an in-flight query")
+                .register(meterRegistry);
+        Gauge.builder("bootcamp.list.coalescing.in_flight", inFlight, Map::size)
+                .description("Distinct paged list queries currently in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<BootcampWithCapacitiesAndTechnologies> listBootcampsPagedAndSorted(
+            int page, int size, String sortBy, String direction, BootcampListInclude include) {
+        return coalesce(new PageKey(page, size, sortBy, direction, include, false),
+                () -> delegate.listBootcampsPagedAndSorted(page, size, sortBy, direction, include));
+    }
+
+    @Override
+    public Flux<BootcampWithCapacitiesAndTechnologies> streamBootcampsPagedAndSorted(
+            int page, int size, String sortBy, String direction, BootcampListInclude include) {
+        return coalesce(new PageKey(page, size, sortBy, direction, include, true),
+                () -> delegate.streamBootcampsPagedAndSorted(page, size, sortBy, direction, include));
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologies> coalesce(
+            PageKey key, Supplier<Flux<BootcampWithCapacitiesAndTechnologies>> query) {
+        return Flux.defer(() -> {
+            AtomicReference<Flux<BootcampWithCapacitiesAndTechnologies>> self = new AtomicReference<>();
+            Flux<BootcampWithCapacitiesAndTechnologies> candidate = Flux.defer(query)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .replay()
+                    .refCount();
+            self.set(candidate);
+
+            Flux<BootcampWithCapacitiesAndTechnologies> shared = inFlight.putIfAbsent(key, candidate);
+            if (shared != null) {
+                coalesced.increment();
+                return shared;
+            }
+            executed.increment();
+            return candidate;
+        });
+    }
+
+    @Override
+    public Mono<BootcampCursorPage> listBootcampsByCursor(String cursor, int size, String sortBy, String direction) {
+        return delegate.listBootcampsByCursor(cursor, size, sortBy, direction);
+    }
+
+    @Override
+    public Mono<BootcampMultiGetResult> findBootcampsByIds(List<Long> ids) {
+        return delegate.findBootcampsByIds(ids);
+    }
+
+    @Override
+    public Mono<BootcampWithCapacitiesAndTechnologies> findBootcampById(Long id) {
+        return delegate.findBootcampById(id);
+    }
+
+    private double coalescingRatio() {
+        double joined = coalesced.count();
+        double total = joined + executed.count();
+        return total == 0 ? 0 : joined / total;
+    }
+
+    private static Counter listCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("bootcamp.list.coalescing")
+                .description("Paged list queries by whether they ran or joined an identical in-flight query")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record PageKey(int page, int size, String sortBy, String direction, BootcampListInclude include,
+                           boolean streaming) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics.PERSISTENCE;
+
+@AllArgsConstructor
+public class MeteredBootcampPersistenceAdapter implements IBootcampPersistencePort {
+
+    private final IBootcampPersistencePort delegate;
+    private final StageMetrics stageMetrics;
+
+    @Override
+    public Mono<Bootcamp> save(Bootcamp bootcamp) {
+        return stageMetrics.time(PERSISTENCE, "save", delegate.save(bootcamp));
+    }
+
+    @Override
+    public Mono<Bootcamp> saveWithPendingAssociation(Bootcamp bootcamp, List<Long> capacityIds) {
+        return stageMetrics.time(PERSISTENCE, "saveWithPendingAssociation",
+                delegate.saveWithPendingAssociation(bootcamp, capacityIds));
+    }
+
+    @Override
+    public Mono<Boolean> existsByName(String name) {
+        return stageMetrics.time(PERSISTENCE, "existsByName", delegate.existsByName(name));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return stageMetrics.time(PERSISTENCE, "deleteById", delegate.deleteById(id));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return stageMetrics.time(PERSISTENCE, "existsById", delegate.existsById(id));
+    }
+
+    @Override
+    public Mono<Bootcamp> findById(Long id) {
+        return stageMetrics.time(PERSISTENCE, "findById", delegate.findById(id));
+    }
+
+    @Override
+    public Flux<Bootcamp> findAllById(Collection<Long> ids) {
+        return stageMetrics.time(PERSISTENCE, "findAllById", delegate.findAllById(ids));
+    }
+
+    @Override
+    public Mono<Void> updateCapacityCount(Long id, int capacityCount) {
+        return stageMetrics.time(PERSISTENCE, "updateCapacityCount", delegate.updateCapacityCount(id, capacityCount));
+    }
+
+    @Override
+    public Mono<Set<String>> findExistingNames(Collection<String> names) {
+        return stageMetrics.time(PERSISTENCE, "findExistingNames", delegate.findExistingNames(names));
+    }
+
+    @Override
+    public Flux<Bootcamp> saveAllWithPendingAssociation(List<BootcampRegistration> registrations) {
+        return stageMetrics.time(PERSISTENCE, "saveAllWithPendingAssociation",
+                delegate.saveAllWithPendingAssociation(registrations));
+    }
+}
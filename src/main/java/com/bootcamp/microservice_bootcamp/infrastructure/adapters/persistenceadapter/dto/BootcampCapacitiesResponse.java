@@ -0,0 +1,8 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto;
+
+import java.util.List;
+
+public record BootcampCapacitiesResponse(
+        Long bootcampId,
+        List<CapacityWithTechnologiesResponse> capacities
+) {}
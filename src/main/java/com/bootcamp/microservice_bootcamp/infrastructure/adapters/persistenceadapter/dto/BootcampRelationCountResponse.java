@@ -0,0 +1,6 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto;
+
+public record BootcampRelationCountResponse(
+        long bootcampId,
+        int relationCount
+) {}
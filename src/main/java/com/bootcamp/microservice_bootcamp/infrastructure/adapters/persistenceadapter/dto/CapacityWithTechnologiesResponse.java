@@ -0,0 +1,9 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto;
+
+import java.util.List;
+
+public record CapacityWithTechnologiesResponse(
+        Long id,
+        String name,
+        List<TechnologyResponse> technologies
+) {}
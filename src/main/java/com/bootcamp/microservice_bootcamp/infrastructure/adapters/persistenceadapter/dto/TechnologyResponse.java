@@ -0,0 +1,6 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto;
+
+public record TechnologyResponse(
+        Long id,
+        String name
+) {}
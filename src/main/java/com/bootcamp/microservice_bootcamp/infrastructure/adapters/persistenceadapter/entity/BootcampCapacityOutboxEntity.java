@@ -0,0 +1,55 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Table(name = "bootcamp_capacity_outbox")
+@Getter
+@Setter
+@RequiredArgsConstructor
+@AllArgsConstructor
+public class BootcampCapacityOutboxEntity {
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    private Long id;
+
+    @Column("bootcamp_id")
+    private Long bootcampId;
+
+    @Column("capacity_ids")
+    private String capacityIds;
+    private String status;
+    private Integer attempts;
+
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column("claimed_by")
+    private String claimedBy;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    public static BootcampCapacityOutboxEntity pending(Long bootcampId, List<Long> capacityIds, LocalDateTime now) {
+        String joinedIds = capacityIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return new BootcampCapacityOutboxEntity(null, bootcampId, joinedIds, STATUS_PENDING, 0, now, null, now);
+    }
+
+    public List<Long> capacityIdList() {
+        return Arrays.stream(capacityIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
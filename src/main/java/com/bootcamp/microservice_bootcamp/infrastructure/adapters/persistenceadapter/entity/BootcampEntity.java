@@ -24,4 +24,7 @@ public class BootcampEntity {
     @Column("release_date")
     private LocalDate releaseDate;
     private Integer duration;
+
+    @Column("capacity_count")
+    private Integer capacityCount;
 }
\ No newline at end of file
@@ -13,5 +13,6 @@ public interface IBootcampEntityMapper {
     @Mapping(source = "releaseDate", target = "releaseDate")
     @Mapping(source = "duration", target = "duration")
     Bootcamp toModel(BootcampEntity entity);
+    @Mapping(target = "capacityCount", ignore = true)
     BootcampEntity toEntity(Bootcamp model);
 }
\ No newline at end of file
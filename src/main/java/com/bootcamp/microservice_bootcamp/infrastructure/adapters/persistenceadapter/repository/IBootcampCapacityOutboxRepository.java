@@ -0,0 +1,36 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository;
+
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityOutboxEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IBootcampCapacityOutboxRepository extends ReactiveCrudRepository<BootcampCapacityOutboxEntity, Long> {
+
+    /**
+     * The due ids are picked in a LIMITed derived table, which MySQL materializes instead of rejecting the
+     * self-referencing UPDATE, and which H2 accepts as well. The outer due check is re-evaluated against the
+     * latest row version, so a row another dispatcher claimed in the meantime is not stolen.
+     */
+    @Modifying
+    @Query("UPDATE bootcamp_capacity_outbox SET claimed_by = :claimToken, next_attempt_at = :leaseUntil " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= :now AND id IN (" +
+            "SELECT id FROM (SELECT id FROM bootcamp_capacity_outbox " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= :now ORDER BY next_attempt_at, id LIMIT :limit) due)")
+    Mono<Integer> claimDue(String claimToken, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    Flux<BootcampCapacityOutboxEntity> findByClaimedBy(String claimedBy);
+
+    @Modifying
+    @Query("UPDATE bootcamp_capacity_outbox SET status = 'PENDING', attempts = 0, claimed_by = NULL " +
+            "WHERE status = 'FAILED' AND next_attempt_at <= :now")
+    Mono<Integer> redriveFailed(LocalDateTime now);
+
+    Mono<Long> countByStatus(String status);
+}
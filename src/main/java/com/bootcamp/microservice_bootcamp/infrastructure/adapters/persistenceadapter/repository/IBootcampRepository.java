@@ -1,12 +1,52 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository;
 
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 
 @Repository
 public interface IBootcampRepository extends ReactiveCrudRepository<BootcampEntity, Long> {
     Mono<BootcampEntity> findByName(String name);
-}
\ No newline at end of file
+    Flux<BootcampEntity> findAllByNameIn(Collection<String> names);
+
+    @Query("SELECT * FROM bootcamp ORDER BY LOWER(name) ASC, id ASC LIMIT :limit OFFSET :offset")
+    Flux<BootcampEntity> findPageOrderByNameAsc(int limit, long offset);
+
+    @Query("SELECT * FROM bootcamp ORDER BY LOWER(name) DESC, id ASC LIMIT :limit OFFSET :offset")
+    Flux<BootcampEntity> findPageOrderByNameDesc(int limit, long offset);
+
+    @Query("SELECT * FROM bootcamp WHERE LOWER(name) >= LOWER(:name) " +
+            "AND (LOWER(name) > LOWER(:name) OR id > :id) " +
+            "ORDER BY LOWER(name) ASC, id ASC LIMIT :limit")
+    Flux<BootcampEntity> findPageAfterNameAsc(String name, Long id, int limit);
+
+    @Query("SELECT * FROM bootcamp WHERE LOWER(name) <= LOWER(:name) " +
+            "AND (LOWER(name) < LOWER(:name) OR id > :id) " +
+            "ORDER BY LOWER(name) DESC, id ASC LIMIT :limit")
+    Flux<BootcampEntity> findPageAfterNameDesc(String name, Long id, int limit);
+
+    @Query("SELECT * FROM bootcamp ORDER BY capacity_count ASC, id ASC LIMIT :limit OFFSET :offset")
+    Flux<BootcampEntity> findPageOrderByCapacityCountAsc(int limit, long offset);
+
+    @Query("SELECT * FROM bootcamp ORDER BY capacity_count DESC, id ASC LIMIT :limit OFFSET :offset")
+    Flux<BootcampEntity> findPageOrderByCapacityCountDesc(int limit, long offset);
+
+    @Query("SELECT * FROM bootcamp WHERE capacity_count > :capacityCount OR (capacity_count = :capacityCount AND id > :id) " +
+            "ORDER BY capacity_count ASC, id ASC LIMIT :limit")
+    Flux<BootcampEntity> findPageAfterCapacityCountAsc(int capacityCount, Long id, int limit);
+
+    @Query("SELECT * FROM bootcamp WHERE capacity_count < :capacityCount OR (capacity_count = :capacityCount AND id > :id) " +
+            "ORDER BY capacity_count DESC, id ASC LIMIT :limit")
+    Flux<BootcampEntity> findPageAfterCapacityCountDesc(int capacityCount, Long id, int limit);
+
+    @Modifying
+    @Query("UPDATE bootcamp SET capacity_count = :capacityCount WHERE id = :id")
+    Mono<Integer> updateCapacityCount(Long id, int capacityCount);
+}
@@ -0,0 +1,40 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.util;
+
+import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
+import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record BootcampCursor(
+        String sortBy,
+        String direction,
+        Long id,
+        String key
+) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(String sortBy, String direction) {
+        return this.sortBy.equals(sortBy) && this.direction.equals(direction);
+    }
+
+    public static BootcampCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new BusinessException(TechnicalMessage.INVALID_CURSOR);
+            }
+            return new BootcampCursor(parts[0], parts[1], Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(TechnicalMessage.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+public class CapacityServiceFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable ex) {
+        return !(ex instanceof WebClientResponseException responseException)
+                || !responseException.getStatusCode().is4xxClientError();
+    }
+}
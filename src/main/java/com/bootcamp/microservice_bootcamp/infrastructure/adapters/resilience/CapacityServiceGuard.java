@@ -0,0 +1,91 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Component
+public class CapacityServiceGuard {
+
+    public static final String INSTANCE = "capacityService";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+    private final StageMetrics stageMetrics;
+    private final Duration attemptTimeout;
+
+    public CapacityServiceGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                MeterRegistry meterRegistry, StageMetrics stageMetrics,
+                                @Value("${capacity.service.attempt-timeout:2s}") Duration attemptTimeout) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+        this.stageMetrics = stageMetrics;
+        this.attemptTimeout = attemptTimeout;
+    }
+
+    /**
+     * The attempt timeout sits inside the circuit breaker so a timed-out call is recorded as a failure;
+     * a timeout applied outside would only cancel the breaker's subscription and release its permit.
+     */
+    public <T> Mono<T> protect(String operation, Mono<T> call) {
+        return stageMetrics.time(StageMetrics.DOWNSTREAM, operation, call.timeout(attemptTimeout))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .doOnError(this::countRejection);
+    }
+
+    /**
+     * Guards a write that must not be cancelled mid-flight: the server may already have applied it. The call
+     * is bounded by the WebClient response timeout instead, which fails inside the breaker and is recorded.
+     */
+    public <T> Mono<T> protectNonIdempotent(String operation, Mono<T> call) {
+        return stageMetrics.time(StageMetrics.DOWNSTREAM, operation, call)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .doOnError(this::countRejection);
+    }
+
+    public <T> Flux<T> protect(String operation, Flux<T> call) {
+        return stageMetrics.time(StageMetrics.DOWNSTREAM, operation, call.timeout(attemptTimeout))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .doOnError(this::countRejection);
+    }
+
+    public boolean isRejection(Throwable ex) {
+        return ex instanceof CallNotPermittedException || ex instanceof BulkheadFullException;
+    }
+
+    private void countRejection(Throwable ex) {
+        if (ex instanceof CallNotPermittedException) {
+            circuitOpenRejections.increment();
+        } else if (ex instanceof BulkheadFullException) {
+            bulkheadFullRejections.increment();
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("capacity.service.rejections")
+                .description("Capacity-service calls rejected without reaching the downstream")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
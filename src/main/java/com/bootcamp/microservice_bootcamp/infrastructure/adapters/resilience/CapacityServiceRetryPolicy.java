@@ -0,0 +1,104 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class CapacityServiceRetryPolicy {
+
+    private static final double MAX_BUDGET_TOKENS = 10;
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Duration deadline;
+    private final RequestBudget retryBudget;
+
+    private final Counter retries;
+    private final Counter retriesDenied;
+
+    public CapacityServiceRetryPolicy(
+            @Value("${capacity.service.retry.max-retries:2}") int maxRetries,
+            @Value("${capacity.service.retry.initial-backoff:100ms}") Duration initialBackoff,
+            @Value("${capacity.service.retry.max-backoff:1s}") Duration maxBackoff,
+            @Value("${capacity.service.retry.jitter:0.5}") double jitter,
+            @Value("${capacity.service.retry.deadline:5s}") Duration deadline,
+            @Value("${capacity.service.retry.budget-ratio:0.2}") double budgetRatio,
+            MeterRegistry meterRegistry) {
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.deadline = deadline;
+        this.retryBudget = new RequestBudget(budgetRatio, MAX_BUDGET_TOKENS, MAX_BUDGET_TOKENS);
+        this.retries = retryCounter(meterRegistry, "retried");
+        this.retriesDenied = retryCounter(meterRegistry, "budget_exhausted");
+    }
+
+    public <T> Mono<T> idempotent(Mono<T> call) {
+        return Mono.defer(() -> {
+            retryBudget.deposit();
+            return call.retryWhen(retrySpec(true))
+                    .timeout(deadline);
+        });
+    }
+
+    /**
+     * No overall deadline here: cancelling a write after the server applied it would report a failure for a
+     * call that succeeded. Each attempt is bounded by the WebClient response timeout, and only failures that
+     * cannot have reached the server are retried.
+     */
+    public <T> Mono<T> nonIdempotent(Mono<T> call) {
+        return Mono.defer(() -> {
+            retryBudget.deposit();
+            return call.retryWhen(retrySpec(false));
+        });
+    }
+
+    boolean isRetryable(Throwable ex, boolean idempotent) {
+        if (ex instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return idempotent ? RETRYABLE_STATUSES.contains(status) : status == 429 || status == 503;
+        }
+        if (ex instanceof WebClientRequestException) {
+            return idempotent || ex.getCause() instanceof ConnectException;
+        }
+        return idempotent && ex instanceof TimeoutException;
+    }
+
+    private Retry retrySpec(boolean idempotent) {
+        return Retry.backoff(maxRetries, initialBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(jitter)
+                .filter(ex -> isRetryable(ex, idempotent))
+                .doBeforeRetryAsync(signal -> {
+                    if (!retryBudget.tryWithdraw()) {
+                        retriesDenied.increment();
+                        return Mono.error(signal.failure());
+                    }
+                    retries.increment();
+                    return Mono.empty();
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private static Counter retryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("capacity.service.retries")
+                .description("Capacity-service call retries by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+public class HedgedRequestExecutor {
+
+    private static final int LATENCY_WINDOW = 256;
+    private static final double MAX_BUDGET_TOKENS = 10;
+
+    private final boolean enabled;
+    private final double delayPercentile;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final int minSamples;
+    private final RequestBudget hedgeBudget;
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private int latencyIndex;
+
+    private final Counter hedgesSent;
+    private final Counter hedgesDenied;
+
+    public HedgedRequestExecutor(
+            @Value("${capacity.service.hedging.enabled:false}") boolean enabled,
+            @Value("${capacity.service.hedging.delay-percentile:95}") double delayPercentile,
+            @Value("${capacity.service.hedging.initial-delay:200ms}") Duration initialDelay,
+            @Value("${capacity.service.hedging.min-delay:10ms}") Duration minDelay,
+            @Value("${capacity.service.hedging.min-samples:20}") int minSamples,
+            @Value("${capacity.service.hedging.budget-ratio:0.1}") double budgetRatio,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.delayPercentile = delayPercentile;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.minSamples = minSamples;
+        this.hedgeBudget = new RequestBudget(budgetRatio, MAX_BUDGET_TOKENS, 0);
+        this.hedgesSent = hedgeCounter(meterRegistry, "sent");
+        this.hedgesDenied = hedgeCounter(meterRegistry, "budget_exhausted");
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+        return Mono.defer(() -> {
+            Duration delay = currentDelay();
+            hedgeBudget.deposit();
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            AtomicReference<Throwable> hedgeError = new AtomicReference<>();
+            Mono<T> primary = sampled(request.get()).doOnError(primaryError::set);
+            Mono<T> hedge = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!hedgeBudget.tryWithdraw()) {
+                            hedgesDenied.increment();
+                            return Mono.empty();
+                        }
+                        hedgesSent.increment();
+                        return request.get();
+                    })
+                    .doOnError(hedgeError::set);
+            // The first value wins, so a fast failure of one attempt does not cancel the other. When neither
+            // attempt produces a value, surface the primary's error, else the hedge's, rather than the combined one.
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorResume(ex -> {
+                        Throwable failure = primaryError.get() != null ? primaryError.get() : hedgeError.get();
+                        return failure != null ? Mono.error(failure) : Mono.empty();
+                    });
+        });
+    }
+
+    Duration currentDelay() {
+        long[] samples;
+        synchronized (latencies) {
+            if (latencyCount < minSamples) {
+                return initialDelay;
+            }
+            samples = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(delayPercentile / 100 * samples.length) - 1;
+        long nanos = samples[Math.max(0, Math.min(index, samples.length - 1))];
+        return Duration.ofNanos(Math.max(nanos, minDelay.toNanos()));
+    }
+
+    /**
+     * Only the primary is sampled: a hedge starts late and only ever wins when it is fast, so its latencies would
+     * drag the percentile down. A primary cancelled because the hedge won still records its elapsed time, which is
+     * a lower bound on its real latency but keeps slow calls in the window.
+     */
+    private <T> Mono<T> sampled(Mono<T> attempt) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt
+                    .doFinally(signal -> {
+                        if (signal == SignalType.ON_COMPLETE || signal == SignalType.CANCEL) {
+                            recordLatency(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    private void recordLatency(long nanos) {
+        synchronized (latencies) {
+            latencies[latencyIndex] = nanos;
+            latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+        }
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("capacity.service.hedges")
+                .description("Hedged capacity-service reads by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
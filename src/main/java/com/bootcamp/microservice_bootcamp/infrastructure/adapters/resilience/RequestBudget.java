@@ -0,0 +1,26 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+public class RequestBudget {
+
+    private final double depositPerRequest;
+    private final double maxTokens;
+    private double tokens;
+
+    public RequestBudget(double depositPerRequest, double maxTokens, double initialTokens) {
+        this.depositPerRequest = Math.max(0, Math.min(depositPerRequest, 1));
+        this.maxTokens = maxTokens;
+        this.tokens = Math.min(initialTokens, maxTokens);
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(tokens + depositPerRequest, maxTokens);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -1,6 +1,8 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints;
 
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampBulkResultDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampDTO;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampMultiGetDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampWithCapacitiesAndTechnologiesDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.handler.BootcampHandlerImpl;
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,7 +54,7 @@ public class RouterRest {
                             responses = {
                                     @ApiResponse(
                                             responseCode = "201",
-                                            description = "Bootcamp created successfully",
+                                            description = "Bootcamp created successfully. Capacities are associated asynchronously",
                                             content = @Content(schema = @Schema(implementation = String.class),
                                                     examples = @ExampleObject(value = "Bootcamp successfully registered"))
                                     ),
@@ -61,6 +63,40 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/bootcamp/bulk",
+                    method = RequestMethod.POST,
+                    beanClass = BootcampHandlerImpl.class,
+                    beanMethod = "createBootcampsInBulk",
+                    operation = @Operation(
+                            operationId = "createBootcampsInBulk",
+                            summary = "Creates up to 500 bootcamps in one request and reports the result of each item",
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(
+                                            array = @ArraySchema(schema = @Schema(implementation = BootcampDTO.class)),
+                                            examples = @ExampleObject(value = """
+                                                [
+                                                  {
+                                                    "name": "Backend Bootcamp",
+                                                    "description": "Spring Boot & Java Fundamentals",
+                                                    "capacityIds": [1, 2, 3]
+                                                  }
+                                                ]
+                                                """)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Result of each bootcamp, in request order",
+                                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BootcampBulkResultDTO.class)))
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Invalid bulk size"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/bootcamp/list",
                     method = RequestMethod.GET,
@@ -73,14 +109,69 @@ public class RouterRest {
                                     @Parameter(name = "page", in = ParameterIn.QUERY, example = "0"),
                                     @Parameter(name = "size", in = ParameterIn.QUERY, example = "10"),
                                     @Parameter(name = "sortBy", in = ParameterIn.QUERY, example = "name"),
-                                    @Parameter(name = "direction", in = ParameterIn.QUERY, example = "asc")
+                                    @Parameter(name = "direction", in = ParameterIn.QUERY, example = "asc"),
+                                    @Parameter(name = "cursor", in = ParameterIn.QUERY,
+                                            description = "Enables cursor mode. Send it empty for the first page and then the nextCursor of the previous page; page is ignored"),
+                                    @Parameter(name = "fields", in = ParameterIn.QUERY, example = "id,name,releaseDate",
+                                            description = "Comma-separated fields to return; capacities are only fetched when listed, unless include is sent"),
+                                    @Parameter(name = "include", in = ParameterIn.QUERY, example = "capacities,technologies",
+                                            description = "Related data to load; technologies implies capacities. Defaults to both"),
+                                    @Parameter(name = "If-None-Match", in = ParameterIn.HEADER,
+                                            description = "ETag of a previously returned page; a 304 is returned if the page has not changed")
                             },
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
-                                            description = "List of bootcamps",
+                                            description = "List of bootcamps, streamed one per element when Accept is application/x-ndjson or text/event-stream, or a BootcampCursorPageDTO when cursor is sent",
                                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = BootcampWithCapacitiesAndTechnologiesDTO.class)))
                                     ),
+                                    @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag sent in If-None-Match"),
+                                    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/bootcamp",
+                    method = RequestMethod.GET,
+                    beanClass = BootcampHandlerImpl.class,
+                    beanMethod = "getBootcampsByIds",
+                    operation = @Operation(
+                            operationId = "getBootcampsByIds",
+                            summary = "Returns several bootcamps with their capacities and technologies in one call",
+                            parameters = {
+                                    @Parameter(name = "ids", in = ParameterIn.QUERY, required = true, example = "3,1,2",
+                                            description = "Comma-separated bootcamp IDs, at most 100")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Found bootcamps in request order, plus the IDs that do not exist",
+                                            content = @Content(schema = @Schema(implementation = BootcampMultiGetDTO.class))
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Missing, malformed or too many IDs"),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/bootcamp/{bootcampId}",
+                    method = RequestMethod.GET,
+                    beanClass = BootcampHandlerImpl.class,
+                    beanMethod = "getBootcampById",
+                    operation = @Operation(
+                            operationId = "getBootcampById",
+                            summary = "Returns one bootcamp with its capacities and technologies",
+                            parameters = {
+                                    @Parameter(name = "bootcampId", in = ParameterIn.PATH, required = true, example = "1")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Bootcamp found",
+                                            content = @Content(schema = @Schema(implementation = BootcampWithCapacitiesAndTechnologiesDTO.class))
+                                    ),
+                                    @ApiResponse(responseCode = "404", description = "Bootcamp does not exist"),
                                     @ApiResponse(responseCode = "500", description = "Internal server error")
                             }
                     )
@@ -132,7 +223,10 @@ public class RouterRest {
     })
     public RouterFunction<ServerResponse> routerFunction(BootcampHandlerImpl bootcampHandler) {
         return route(POST("/bootcamp"), bootcampHandler::createBootcamp)
+                .andRoute(GET("/bootcamp"), bootcampHandler::getBootcampsByIds)
+                .andRoute(POST("/bootcamp/bulk"), bootcampHandler::createBootcampsInBulk)
                 .andRoute(GET("/bootcamp/list"), bootcampHandler::listBootcamps)
+                .andRoute(GET("/bootcamp/{bootcampId}"), bootcampHandler::getBootcampById)
                 .andRoute(DELETE("/bootcamp/{bootcampId}"), bootcampHandler::deleteBootcamp)
                 .andRoute(POST("/bootcamp/validate-list"), bootcampHandler::validateBootcampIds);
 
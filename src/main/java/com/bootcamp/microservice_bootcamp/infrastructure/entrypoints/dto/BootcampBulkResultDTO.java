@@ -0,0 +1,11 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto;
+
+import lombok.Data;
+
+@Data
+public class BootcampBulkResultDTO {
+    private String name;
+    private Long bootcampId;
+    private String code;
+    private String message;
+}
@@ -0,0 +1,11 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BootcampCursorPageDTO {
+    private List<BootcampWithCapacitiesAndTechnologiesDTO> bootcamps;
+    private String nextCursor;
+}
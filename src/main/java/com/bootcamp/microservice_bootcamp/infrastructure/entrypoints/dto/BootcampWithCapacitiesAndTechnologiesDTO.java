@@ -13,4 +13,5 @@ public class BootcampWithCapacitiesAndTechnologiesDTO {
     private LocalDate releaseDate;
     private Integer duration;
     private List<CapacityWithTechnologiesDTO> capacities;
+    private boolean degraded;
 }
\ No newline at end of file
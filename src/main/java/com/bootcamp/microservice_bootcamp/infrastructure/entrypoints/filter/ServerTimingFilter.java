@@ -0,0 +1,61 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.filter;
+
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.RequestTiming;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "bootcamp.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter implements WebFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final Duration slowThreshold;
+    private final double slowLogSampleRate;
+
+    public ServerTimingFilter(
+            @Value("${bootcamp.server-timing.slow-threshold:500ms}") Duration slowThreshold,
+            @Value("${bootcamp.server-timing.slow-log-sample-rate:0.1}") double slowLogSampleRate) {
+        this.slowThreshold = slowThreshold;
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RequestTiming timing = new RequestTiming();
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> exchange.getResponse().getHeaders()
+                .set(SERVER_TIMING_HEADER, timing.toServerTimingHeader())));
+        return chain.filter(exchange)
+                .doFinally(signal -> logIfSlow(exchange, timing))
+                .contextWrite(context -> context.put(RequestTiming.class, timing));
+    }
+
+    private void logIfSlow(ServerWebExchange exchange, RequestTiming timing) {
+        long elapsedNanos = timing.elapsedNanos();
+        if (elapsedNanos < slowThreshold.toNanos()
+                || ThreadLocalRandom.current().nextDouble() >= slowLogSampleRate) {
+            return;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        log.warn("slow_request method={} path={} query={} status={} total_ms={} stages_ms={}",
+                request.getMethod(),
+                request.getPath().value(),
+                request.getURI().getRawQuery(),
+                response.getStatusCode() != null ? response.getStatusCode().value() : null,
+                elapsedNanos / 1_000_000,
+                timing.millisByStage());
+    }
+}
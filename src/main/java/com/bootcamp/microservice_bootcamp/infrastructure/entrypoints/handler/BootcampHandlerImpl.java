@@ -6,23 +6,48 @@ import com.bootcamp.microservice_bootcamp.domain.api.IBootcampServicePort;
 import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
 import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
 import com.bootcamp.microservice_bootcamp.domain.exceptions.TechnicalException;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistrationResult;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.BootcampListCacheKey;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.BootcampListResponseCacheAdapter;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.CachedBootcampListPage;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampDTO;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampWithCapacitiesAndTechnologiesDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper.IBootcampMapper;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper.IBootcampWithCapacitiesAndTechnologiesMapper;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.util.APIResponse;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.util.ErrorDTO;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.util.Constants.BOOTCAMP_ERROR;
+import static com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics.HANDLER;
+import static com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics.MAPPING;
 
 
 @Component
@@ -33,10 +58,20 @@ public class BootcampHandlerImpl {
     private final IBootcampServicePort bootcampServicePort;
     private final IBootcampMapper bootcampMapper;
     private final IBootcampWithCapacitiesAndTechnologiesMapper bootcampWithCapTechMapper;
+    private final StageMetrics stageMetrics;
+    private final BootcampListResponseCacheAdapter listResponseCache;
+    private final ObjectMapper objectMapper;
+
+    private static final String CAPACITIES = "capacities";
+    private static final String TECHNOLOGIES = "technologies";
+
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON,
+            MediaType.TEXT_EVENT_STREAM);
 
 
     public Mono<ServerResponse> createBootcamp(ServerRequest request) {
-        return request.bodyToMono(BootcampDTO.class)
+        return stageMetrics.time(HANDLER, "createBootcamp", request.bodyToMono(BootcampDTO.class)
                 .flatMap(dto -> {
                     return bootcampServicePort.registerBootcampWithCapacities(
                             bootcampMapper.bootcampDTOToBootcamp(dto),
@@ -71,25 +106,244 @@ public class BootcampHandlerImpl {
                                     .code(TechnicalMessage.INTERNAL_ERROR.getCode())
                                     .message(TechnicalMessage.INTERNAL_ERROR.getMessage())
                                     .build()));
-                });
+                }));
+    }
+
+    public Mono<ServerResponse> createBootcampsInBulk(ServerRequest request) {
+        // Decoding stops one element past the limit, so an oversized body is rejected without being buffered whole.
+        return stageMetrics.time(HANDLER, "createBootcampsInBulk", request.bodyToFlux(BootcampDTO.class)
+                .take(IBootcampServicePort.MAX_BULK_SIZE + 1L)
+                .map(dto -> new BootcampRegistration(bootcampMapper.bootcampDTOToBootcamp(dto), dto.getCapacityIds()))
+                .collectList()
+                .flatMap(registrations -> registrations.size() > IBootcampServicePort.MAX_BULK_SIZE
+                        ? Mono.<List<BootcampRegistrationResult>>error(
+                                new BusinessException(TechnicalMessage.INVALID_BULK_SIZE))
+                        : bootcampServicePort.registerBootcampsInBulk(registrations))
+                .map(results -> results.stream().map(bootcampMapper::toBulkResultDTO).toList())
+                .flatMap(results -> ServerResponse.ok().bodyValue(results))
+                .doOnError(ex -> log.error(BOOTCAMP_ERROR, ex))
+                .onErrorResume(BusinessException.class, ex -> buildErrorResponse(
+                        HttpStatus.BAD_REQUEST,
+                        ex.getTechnicalMessage(),
+                        List.of(ErrorDTO.builder()
+                                .code(ex.getTechnicalMessage().getCode())
+                                .message(ex.getTechnicalMessage().getMessage())
+                                .param(ex.getTechnicalMessage().getParam())
+                                .build())))
+                .onErrorResume(ex -> buildErrorResponse(
+                        HttpStatus.INTERNAL_SERVER_ERROR,
+                        TechnicalMessage.INTERNAL_ERROR,
+                        List.of(ErrorDTO.builder()
+                                .code(TechnicalMessage.INTERNAL_ERROR.getCode())
+                                .message(TechnicalMessage.INTERNAL_ERROR.getMessage())
+                                .build()))));
     }
 
     public Mono<ServerResponse> listBootcamps(ServerRequest request) {
+        return stageMetrics.time(HANDLER, "listBootcamps", listBootcampsPage(request));
+    }
+
+    private Mono<ServerResponse> listBootcampsPage(ServerRequest request) {
         int page = Integer.parseInt(request.queryParam("page").orElse("0"));
         int size = Integer.parseInt(request.queryParam("size").orElse("10"));
         String sortBy = request.queryParam("sortBy").orElse("name");
         String direction = request.queryParam("direction").orElse("asc");
+        Optional<String> cursor = request.queryParam("cursor");
+
+        if (cursor.isPresent()) {
+            return listBootcampsByCursor(cursor.get(), size, sortBy, direction);
+        }
+        Set<String> fields = parseFields(request);
+        BootcampListInclude include = parseInclude(request, fields);
+
+        Optional<MediaType> streamingMediaType = streamingMediaType(request);
+        if (streamingMediaType.isPresent()) {
+            Flux<BootcampWithCapacitiesAndTechnologiesDTO> bootcamps = toDTOs(
+                    bootcampServicePort.streamBootcampsPagedAndSorted(page, size, sortBy, direction, include));
+            return fields.isEmpty()
+                    ? ServerResponse.ok()
+                            .contentType(streamingMediaType.get())
+                            .body(bootcamps, BootcampWithCapacitiesAndTechnologiesDTO.class)
+                    : ServerResponse.ok()
+                            .contentType(streamingMediaType.get())
+                            .body(bootcamps.map(dto -> project(dto, fields)), ObjectNode.class);
+        }
 
-        return bootcampServicePort
-                .listBootcampsPagedAndSorted(page, size, sortBy, direction)
-                .map(bootcampWithCapTechMapper::toDTO)
+        BootcampListCacheKey cacheKey = new BootcampListCacheKey(page, size, sortBy, direction, include, fields);
+        CachedBootcampListPage cached = listResponseCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return jsonResponse(request, cached);
+        }
+        long generation = listResponseCache.generation();
+        return toDTOs(bootcampServicePort.listBootcampsPagedAndSorted(page, size, sortBy, direction, include))
                 .collectList()
-                .flatMap(list -> ServerResponse.ok().bodyValue(list));
+                .flatMap(list -> stageMetrics.map(MAPPING, "toJson", Mono.just(list), dtos -> toJson(fields.isEmpty()
+                                ? dtos
+                                : dtos.stream().map(dto -> project(dto, fields)).toList()))
+                        .map(CachedBootcampListPage::of)
+                        .doOnNext(encoded -> {
+                            if (list.stream().noneMatch(BootcampWithCapacitiesAndTechnologiesDTO::isDegraded)) {
+                                listResponseCache.put(cacheKey, generation, encoded);
+                            }
+                        }))
+                .flatMap(encoded -> jsonResponse(request, encoded));
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologiesDTO> toDTOs(Flux<BootcampWithCapacitiesAndTechnologies> bootcamps) {
+        return stageMetrics.map(MAPPING, "toDTO", bootcamps, bootcampWithCapTechMapper::toDTO);
+    }
+
+    private static Set<String> parseFields(ServerRequest request) {
+        return request.queryParam("fields")
+                .map(BootcampHandlerImpl::commaSeparated)
+                .orElse(Set.of());
+    }
+
+    private static BootcampListInclude parseInclude(ServerRequest request, Set<String> fields) {
+        Optional<Set<String>> include = request.queryParam("include").map(BootcampHandlerImpl::commaSeparated);
+        if (include.isPresent()) {
+            return new BootcampListInclude(include.get().contains(CAPACITIES), include.get().contains(TECHNOLOGIES));
+        }
+        if (!fields.isEmpty()) {
+            return fields.contains(CAPACITIES) ? BootcampListInclude.ALL : BootcampListInclude.NONE;
+        }
+        return BootcampListInclude.ALL;
+    }
+
+    private static Set<String> commaSeparated(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private ObjectNode project(BootcampWithCapacitiesAndTechnologiesDTO dto, Set<String> fields) {
+        ObjectNode node = objectMapper.valueToTree(dto);
+        node.retain(fields);
+        return node;
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new EncodingException("Could not encode bootcamp list", ex);
+        }
+    }
+
+    private Mono<ServerResponse> jsonResponse(ServerRequest request, CachedBootcampListPage page) {
+        if (matchesIfNoneMatch(request, page.etag())) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(page.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ServerResponse.ok()
+                .eTag(page.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(
+                        Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(page.body()))));
+    }
+
+    private static boolean matchesIfNoneMatch(ServerRequest request, String etag) {
+        return request.headers().header(HttpHeaders.IF_NONE_MATCH).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    private Optional<MediaType> streamingMediaType(ServerRequest request) {
+        return request.headers().accept().stream()
+                .filter(mediaType -> STREAMING_MEDIA_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype))
+                .findFirst()
+                .map(mediaType -> new MediaType(mediaType.getType(), mediaType.getSubtype()));
+    }
+
+    private Mono<ServerResponse> listBootcampsByCursor(String cursor, int size, String sortBy, String direction) {
+        return stageMetrics.map(MAPPING, "toCursorPageDTO",
+                        bootcampServicePort.listBootcampsByCursor(cursor, size, sortBy, direction),
+                        bootcampWithCapTechMapper::toCursorPageDTO)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page))
+                .onErrorResume(BusinessException.class, ex -> buildErrorResponse(
+                        HttpStatus.BAD_REQUEST,
+                        ex.getTechnicalMessage(),
+                        List.of(ErrorDTO.builder()
+                                .code(ex.getTechnicalMessage().getCode())
+                                .message(ex.getTechnicalMessage().getMessage())
+                                .param(ex.getTechnicalMessage().getParam())
+                                .build())));
+    }
+
+    public Mono<ServerResponse> getBootcampsByIds(ServerRequest request) {
+        return stageMetrics.time(HANDLER, "getBootcampsByIds", Mono.fromCallable(() -> parseIds(request))
+                .onErrorMap(NumberFormatException.class, ex -> new BusinessException(TechnicalMessage.INVALID_BOOTCAMP_IDS))
+                .flatMap(bootcampServicePort::getBootcampsByIds)
+                .transform(results -> stageMetrics.map(MAPPING, "toMultiGetDTO", results,
+                        bootcampWithCapTechMapper::toMultiGetDTO))
+                .flatMap(dto -> ServerResponse.ok().bodyValue(dto))
+                .onErrorResume(BusinessException.class, ex -> buildErrorResponse(
+                        HttpStatus.BAD_REQUEST,
+                        ex.getTechnicalMessage(),
+                        List.of(ErrorDTO.builder()
+                                .code(ex.getTechnicalMessage().getCode())
+                                .message(ex.getTechnicalMessage().getMessage())
+                                .param(ex.getTechnicalMessage().getParam())
+                                .build())))
+                .onErrorResume(ex -> {
+                    log.error("Unexpected error occurred", ex);
+                    return buildErrorResponse(
+                            HttpStatus.INTERNAL_SERVER_ERROR,
+                            TechnicalMessage.INTERNAL_ERROR,
+                            List.of(ErrorDTO.builder()
+                                    .code(TechnicalMessage.INTERNAL_ERROR.getCode())
+                                    .message(TechnicalMessage.INTERNAL_ERROR.getMessage())
+                                    .build()));
+                }));
+    }
+
+    public Mono<ServerResponse> getBootcampById(ServerRequest request) {
+        return stageMetrics.time(HANDLER, "getBootcampById", Mono.fromCallable(() ->
+                        Long.valueOf(request.pathVariable("bootcampId")))
+                .onErrorMap(NumberFormatException.class, ex -> new BusinessException(TechnicalMessage.BOOTCAMP_NOT_FOUND))
+                .flatMap(bootcampServicePort::getBootcampById)
+                .transform(bootcamp -> stageMetrics.map(MAPPING, "toDTO", bootcamp, bootcampWithCapTechMapper::toDTO))
+                .flatMap(dto -> ServerResponse.ok().bodyValue(dto))
+                .onErrorResume(BusinessException.class, ex -> buildErrorResponse(
+                        ex.getTechnicalMessage() == TechnicalMessage.BOOTCAMP_NOT_FOUND
+                                ? HttpStatus.NOT_FOUND
+                                : HttpStatus.BAD_REQUEST,
+                        ex.getTechnicalMessage(),
+                        List.of(ErrorDTO.builder()
+                                .code(ex.getTechnicalMessage().getCode())
+                                .message(ex.getTechnicalMessage().getMessage())
+                                .param(ex.getTechnicalMessage().getParam())
+                                .build())))
+                .onErrorResume(ex -> {
+                    log.error("Unexpected error occurred", ex);
+                    return buildErrorResponse(
+                            HttpStatus.INTERNAL_SERVER_ERROR,
+                            TechnicalMessage.INTERNAL_ERROR,
+                            List.of(ErrorDTO.builder()
+                                    .code(TechnicalMessage.INTERNAL_ERROR.getCode())
+                                    .message(TechnicalMessage.INTERNAL_ERROR.getMessage())
+                                    .build()));
+                }));
+    }
+
+    private static List<Long> parseIds(ServerRequest request) {
+        return request.queryParams().getOrDefault("ids", List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(Long::valueOf)
+                .toList();
     }
 
     public Mono<ServerResponse> deleteBootcamp(ServerRequest request) {
         Long bootcampId = Long.parseLong(request.pathVariable("bootcampId"));
-        return bootcampServicePort.deleteBootcampAndCascade(bootcampId)
+        return stageMetrics.time(HANDLER, "deleteBootcamp", bootcampServicePort.deleteBootcampAndCascade(bootcampId)
                 .then(ServerResponse.noContent().build())
                 .onErrorResume(ex -> {
                     log.error("Unexpected error occurred", ex);
@@ -101,11 +355,11 @@ public class BootcampHandlerImpl {
                                     .message("Error deleting bootcamp: " + ex.getMessage())
                                     .build())
                     );
-                });
+                }));
     }
 
     public Mono<ServerResponse> validateBootcampIds(ServerRequest request) {
-        return request.bodyToMono(List.class)
+        return stageMetrics.time(HANDLER, "validateBootcampIds", request.bodyToMono(List.class)
                 .flatMap(idsRaw -> {
                     List<Long> ids = ((List<?>) idsRaw).stream()
                             .map(Object::toString)
@@ -136,7 +390,7 @@ public class BootcampHandlerImpl {
                         List.of(ErrorDTO.builder()
                                 .code(TechnicalMessage.INTERNAL_ERROR.getCode())
                                 .message(ex.getMessage())
-                                .build())));
+                                .build()))));
     }
 
 
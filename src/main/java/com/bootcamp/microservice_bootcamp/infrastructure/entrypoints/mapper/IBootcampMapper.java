@@ -1,6 +1,8 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper;
 
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistrationResult;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampBulkResultDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -16,4 +18,8 @@ public interface IBootcampMapper {
     Bootcamp bootcampDTOToBootcamp(BootcampDTO bootcampDTO);
 
     BootcampDTO bootcampToDTO(Bootcamp bootcamp);
+
+    @Mapping(source = "result.code", target = "code")
+    @Mapping(source = "result.message", target = "message")
+    BootcampBulkResultDTO toBulkResultDTO(BootcampRegistrationResult result);
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper;
 
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
 import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampCursorPageDTO;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampMultiGetDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampWithCapacitiesAndTechnologiesDTO;
 import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
 public interface IBootcampWithCapacitiesAndTechnologiesMapper {
     BootcampWithCapacitiesAndTechnologiesDTO toDTO(BootcampWithCapacitiesAndTechnologies model);
-}
\ No newline at end of file
+    BootcampCursorPageDTO toCursorPageDTO(BootcampCursorPage page);
+    BootcampMultiGetDTO toMultiGetDTO(BootcampMultiGetResult result);
+}
@@ -0,0 +1,41 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class RequestTiming {
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, LongAdder> nanosByStage = new ConcurrentHashMap<>();
+
+    public void add(String stage, long nanos) {
+        nanosByStage.computeIfAbsent(stage, key -> new LongAdder()).add(nanos);
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public Map<String, Double> millisByStage() {
+        return nanosByStage.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toMillis(entry.getValue().sum())));
+    }
+
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder();
+        millisByStage().forEach((stage, millis) ->
+                header.append(stage).append(";dur=").append(format(millis)).append(", "));
+        return header.append("total;dur=").append(format(toMillis(elapsedNanos()))).toString();
+    }
+
+    static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+}
@@ -0,0 +1,104 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class StageMetrics {
+
+    public static final String METRIC = "bootcamp.stage";
+    public static final String HANDLER = "handler";
+    public static final String PERSISTENCE = "persistence";
+    public static final String QUERY = "query";
+    public static final String DATABASE = "db";
+    public static final String DOWNSTREAM = "downstream";
+    public static final String MAPPING = "mapping";
+
+    private static final Map<String, String> LEAF_STAGES = Map.of(
+            PERSISTENCE, DATABASE,
+            DATABASE, DATABASE,
+            DOWNSTREAM, DOWNSTREAM,
+            MAPPING, MAPPING);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<StageKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public <T> Mono<T> time(String stage, String operation, Mono<T> source) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            return source.doFinally(signal -> record(context, stage, operation, outcome(signal),
+                    System.nanoTime() - start));
+        });
+    }
+
+    public <T> Flux<T> time(String stage, String operation, Flux<T> source) {
+        return Flux.deferContextual(context -> {
+            long start = System.nanoTime();
+            return source.doFinally(signal -> record(context, stage, operation, outcome(signal),
+                    System.nanoTime() - start));
+        });
+    }
+
+    public <T, R> Flux<R> map(String stage, String operation, Flux<T> source, Function<T, R> mapper) {
+        return Flux.deferContextual(context -> source.map(value -> record(context, stage, operation, mapper, value)));
+    }
+
+    public <T, R> Mono<R> map(String stage, String operation, Mono<T> source, Function<T, R> mapper) {
+        return Mono.deferContextual(context -> source.map(value -> record(context, stage, operation, mapper, value)));
+    }
+
+    private <T, R> R record(ContextView context, String stage, String operation, Function<T, R> mapper, T value) {
+        long start = System.nanoTime();
+        try {
+            return mapper.apply(value);
+        } finally {
+            record(context, stage, operation, "success", System.nanoTime() - start);
+        }
+    }
+
+    private void record(ContextView context, String stage, String operation, String outcome, long nanos) {
+        record(stage, operation, outcome, nanos);
+        if (LEAF_STAGES.containsKey(stage)) {
+            context.<RequestTiming>getOrEmpty(RequestTiming.class)
+                    .ifPresent(timing -> timing.add(LEAF_STAGES.get(stage), nanos));
+        }
+    }
+
+    private void record(String stage, String operation, String outcome, long nanos) {
+        timers.computeIfAbsent(new StageKey(stage, operation, outcome), this::register)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(StageKey key) {
+        return Timer.builder(METRIC)
+                .description("Latency of each stage of bootcamp request processing")
+                .tag("stage", key.stage())
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
+
+    private record StageKey(String stage, String operation, String outcome) {
+    }
+}
@@ -1,8 +1,26 @@
-
 CREATE TABLE IF NOT EXISTS bootcamp (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
   name VARCHAR(50) NOT NULL,
   description VARCHAR(90),
   release_date DATE,
-  duration INT
+  duration INT,
+  capacity_count INT NOT NULL DEFAULT 0,
+  INDEX idx_bootcamp_lower_name ((LOWER(name)), id),
+  INDEX idx_bootcamp_lower_name_desc ((LOWER(name)) DESC, id),
+  INDEX idx_bootcamp_capacity_count (capacity_count, id),
+  INDEX idx_bootcamp_capacity_count_desc (capacity_count DESC, id)
+);
+
+CREATE TABLE IF NOT EXISTS bootcamp_capacity_outbox (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  bootcamp_id BIGINT NOT NULL,
+  capacity_ids VARCHAR(255) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at DATETIME(3) NOT NULL,
+  claimed_by VARCHAR(36),
+  created_at DATETIME(3) NOT NULL,
+  INDEX idx_outbox_status_next_attempt (status, next_attempt_at, id),
+  INDEX idx_outbox_claimed_by (claimed_by),
+  CONSTRAINT fk_outbox_bootcamp FOREIGN KEY (bootcamp_id) REFERENCES bootcamp (id) ON DELETE CASCADE
 );
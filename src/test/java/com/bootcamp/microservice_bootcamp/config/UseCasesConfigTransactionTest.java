@@ -0,0 +1,159 @@
+package com.bootcamp.microservice_bootcamp.config;
+
+import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapperImpl;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(UseCasesConfigTransactionTest.H2PersistenceConfig.class)
+class UseCasesConfigTransactionTest {
+
+    @Configuration
+    @EnableTransactionManagement(proxyTargetClass = true)
+    @EnableR2dbcRepositories(basePackageClasses = IBootcampRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = IBootcampRepository.class))
+    @Import(UseCasesConfig.class)
+    static class H2PersistenceConfig extends AbstractR2dbcConfiguration {
+
+        @Override
+        @Bean
+        public ConnectionFactory connectionFactory() {
+            return ConnectionFactories.get("r2dbc:h2:mem:///bootcamp-tx-test?options=DB_CLOSE_DELAY=-1");
+        }
+
+        @Bean
+        ReactiveTransactionManager transactionManager(ConnectionFactory connectionFactory) {
+            return new R2dbcTransactionManager(connectionFactory);
+        }
+
+        @Bean
+        IBootcampEntityMapper bootcampEntityMapper() {
+            return new IBootcampEntityMapperImpl();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        StageMetrics stageMetrics(MeterRegistry meterRegistry) {
+            return new StageMetrics(meterRegistry);
+        }
+    }
+
+    @MockitoBean
+    private IBootcampCapacityOutboxRepository outboxRepository;
+
+    @MockitoBean
+    private IBootcampCapacityAssociationPort associationPort;
+
+    @MockitoBean
+    private IBootcampQueryPort queryPort;
+
+    @MockitoBean
+    private IBootcampCachePort cachePort;
+
+    @MockitoBean
+    private IBootcampListCachePort listCachePort;
+
+    @Autowired
+    private IBootcampPersistencePort bootcampPersistencePort;
+
+    @Autowired
+    private IBootcampRepository bootcampRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("CREATE TABLE IF NOT EXISTS bootcamp (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                        "name VARCHAR(50) NOT NULL, description VARCHAR(90), release_date DATE, duration INT, " +
+                        "capacity_count INT DEFAULT 0)")
+                .then()
+                .then(databaseClient.sql("CREATE TABLE IF NOT EXISTS bootcamp_capacity_outbox (" +
+                        "id BIGINT AUTO_INCREMENT PRIMARY KEY, bootcamp_id BIGINT NOT NULL, " +
+                        "capacity_ids VARCHAR(255) NOT NULL, status VARCHAR(20) NOT NULL, attempts INT NOT NULL, " +
+                        "next_attempt_at TIMESTAMP NOT NULL, claimed_by VARCHAR(36), created_at TIMESTAMP NOT NULL)")
+                        .then())
+                .then(databaseClient.sql("DELETE FROM bootcamp_capacity_outbox").then())
+                .then(databaseClient.sql("DELETE FROM bootcamp").then())
+                .block();
+    }
+
+    @Test
+    void saveWithPendingAssociation_rollsBackBootcampWhenOutboxInsertFails() {
+        when(outboxRepository.save(any()))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("outbox insert failed")));
+        Bootcamp bootcamp = new Bootcamp(null, "Java", "Backend", LocalDate.of(2026, 1, 10), 12);
+
+        StepVerifier.create(bootcampPersistencePort.saveWithPendingAssociation(bootcamp, List.of(1L, 2L)))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+
+        StepVerifier.create(bootcampRepository.count())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAllWithPendingAssociation_writesOnePendingOutboxRowPerBootcamp() {
+        LocalDate date = LocalDate.of(2026, 1, 10);
+        List<BootcampRegistration> registrations = List.of(
+                new BootcampRegistration(new Bootcamp(null, "Java", "Backend", date, 12), List.of(1L, 2L)),
+                new BootcampRegistration(new Bootcamp(null, "Go", "Backend", date, 8), List.of(3L)));
+
+        StepVerifier.create(bootcampPersistencePort.saveAllWithPendingAssociation(registrations)
+                        .map(Bootcamp::name)
+                        .collectList())
+                .expectNext(List.of("Java", "Go"))
+                .verifyComplete();
+
+        StepVerifier.create(databaseClient.sql("SELECT b.name, o.capacity_ids, o.status, b.capacity_count " +
+                                "FROM bootcamp_capacity_outbox o JOIN bootcamp b ON b.id = o.bootcamp_id ORDER BY o.id")
+                        .map(row -> row.get("name", String.class) + ":" + row.get("capacity_ids", String.class) + ":"
+                                + row.get("status", String.class) + ":" + row.get("capacity_count", Integer.class))
+                        .all()
+                        .collectList())
+                .expectNext(List.of("Java:1,2:PENDING:0", "Go:3:PENDING:0"))
+                .verifyComplete();
+    }
+}
@@ -3,8 +3,15 @@ package com.bootcamp.microservice_bootcamp.domain.usecase;
 import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
 import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampMultiGetResult;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistrationResult;
 import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampPersistencePort;
 import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +25,7 @@ import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.Mockito.*;
 
@@ -30,12 +38,17 @@ class BootcampUseCaseTest {
     private IBootcampCapacityAssociationPort associationPort;
     @Mock
     private IBootcampQueryPort queryPort;
+    @Mock
+    private IBootcampCachePort cachePort;
+    @Mock
+    private IBootcampListCachePort listCachePort;
 
     private BootcampUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new BootcampUseCase(persistencePort, associationPort, queryPort);
+        useCase = new BootcampUseCase(persistencePort, associationPort, queryPort, cachePort, listCachePort);
+        lenient().when(listCachePort.invalidateAll()).thenReturn(Mono.empty());
     }
 
     @Test
@@ -44,13 +57,16 @@ class BootcampUseCaseTest {
         List<Long> capacityIds = List.of(1L, 2L);
 
         when(persistencePort.existsByName("Bootcamp")).thenReturn(Mono.just(false));
-        when(persistencePort.save(bootcamp)).thenReturn(Mono.just(new Bootcamp(1L, "Bootcamp",
-                "Descripción", LocalDate.now(), 10)));
-        when(associationPort.associateCapacityToBootcamp(1L, capacityIds)).thenReturn(Mono.just(true));
+        when(persistencePort.saveWithPendingAssociation(bootcamp, capacityIds)).thenReturn(Mono.just(new Bootcamp(1L,
+                "Bootcamp", "Descripción", LocalDate.now(), 10)));
 
         StepVerifier.create(useCase.registerBootcampWithCapacities(bootcamp, capacityIds))
                 .expectNext(TechnicalMessage.BOOTCAMP_CREATED.name())
                 .verifyComplete();
+
+        verify(associationPort, never()).associateCapacityToBootcamp(anyLong(), anyList());
+        verify(persistencePort, never()).deleteById(anyLong());
+        verify(listCachePort).invalidateAll();
     }
 
     @Test
@@ -106,41 +122,192 @@ class BootcampUseCaseTest {
     }
 
     @Test
-    void registerBootcampWithCapacities_associationFailed() {
+    void registerBootcampWithCapacities_saveFailed() {
         Bootcamp bootcamp = new Bootcamp(null, "Bootcamp", "Descripción", LocalDate.now(), 10);
-        Bootcamp saved = new Bootcamp(1L, "Bootcamp", "Descripción", LocalDate.now(), 10);
         List<Long> capacityIds = List.of(1L);
 
         when(persistencePort.existsByName("Bootcamp")).thenReturn(Mono.just(false));
-        when(persistencePort.save(bootcamp)).thenReturn(Mono.just(saved));
-        when(associationPort.associateCapacityToBootcamp(1L, capacityIds)).thenReturn(Mono.just(false));
-        when(persistencePort.deleteById(1L)).thenReturn(Mono.empty());
+        when(persistencePort.saveWithPendingAssociation(bootcamp, capacityIds))
+                .thenReturn(Mono.error(new IllegalStateException("db down")));
 
         StepVerifier.create(useCase.registerBootcampWithCapacities(bootcamp, capacityIds))
-                .expectErrorSatisfies(e -> {
-                    assert e instanceof BusinessException;
-                    assert ((BusinessException) e).getTechnicalMessage() == TechnicalMessage.BOOTCAMP_ASSOCIATION_FAILED;
-                })
+                .expectError(IllegalStateException.class)
                 .verify();
+
+        verifyNoInteractions(associationPort);
     }
 
     @Test
     void deleteBootcampAndCascade_success() {
         when(associationPort.deleteCapacitiesByBootcampId(1L)).thenReturn(Mono.empty());
         when(persistencePort.deleteById(1L)).thenReturn(Mono.empty());
+        when(cachePort.evict(1L)).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.deleteBootcampAndCascade(1L))
                 .verifyComplete();
+
+        verify(cachePort).evict(1L);
+        verify(listCachePort).invalidateAll();
     }
 
     @Test
     void listBootcampsPagedAndSorted_success() {
         BootcampWithCapacitiesAndTechnologies mock = mock(BootcampWithCapacitiesAndTechnologies.class);
-        when(queryPort.listBootcampsPagedAndSorted(0, 10, "name", "asc"))
+        when(queryPort.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
                 .thenReturn(Flux.just(mock));
 
-        StepVerifier.create(useCase.listBootcampsPagedAndSorted(0, 10, "name", "asc"))
+        StepVerifier.create(useCase.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
                 .expectNext(mock)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBootcampsByIds_deduplicatesIdsKeepingRequestOrder() {
+        BootcampMultiGetResult result = new BootcampMultiGetResult(List.of(), List.of(3L, 1L));
+        when(queryPort.findBootcampsByIds(List.of(3L, 1L))).thenReturn(Mono.just(result));
+
+        StepVerifier.create(useCase.getBootcampsByIds(List.of(3L, 1L, 3L)))
+                .expectNext(result)
+                .verifyComplete();
+    }
+
+    @Test
+    void getBootcampsByIds_empty_isRejected() {
+        StepVerifier.create(useCase.getBootcampsByIds(List.of()))
+                .expectErrorMatches(ex -> ex instanceof BusinessException be
+                        && be.getTechnicalMessage() == TechnicalMessage.INVALID_BOOTCAMP_IDS)
+                .verify();
+
+        verifyNoInteractions(queryPort);
+    }
+
+    @Test
+    void getBootcampById_missing_isNotFound() {
+        when(queryPort.findBootcampById(7L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.getBootcampById(7L))
+                .expectErrorMatches(ex -> ex instanceof BusinessException be
+                        && be.getTechnicalMessage() == TechnicalMessage.BOOTCAMP_NOT_FOUND)
+                .verify();
+    }
+
+    @Test
+    void listBootcampsByCursor_delegatesToQueryPort() {
+        BootcampCursorPage page = new BootcampCursorPage(List.of(), "next");
+        when(queryPort.listBootcampsByCursor("", 10, "name", "asc")).thenReturn(Mono.just(page));
+
+        StepVerifier.create(useCase.listBootcampsByCursor("", 10, "name", "asc"))
+                .expectNext(page)
+                .verifyComplete();
+    }
+
+    @Test
+    void registerBootcampsInBulk_reportsEachItemInRequestOrder() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        BootcampRegistration java = new BootcampRegistration(new Bootcamp(null, "Java", "Desc", date, 10), List.of(1L));
+        BootcampRegistration invalid = new BootcampRegistration(new Bootcamp(null, "", "Desc", date, 10), List.of(1L));
+        BootcampRegistration existing = new BootcampRegistration(new Bootcamp(null, "Go", "Desc", date, 10), List.of(2L));
+        BootcampRegistration repeated = new BootcampRegistration(new Bootcamp(null, "JAVA", "Desc", date, 10), List.of(3L));
+        BootcampRegistration rust = new BootcampRegistration(new Bootcamp(null, "Rust", "Desc", date, 10), List.of(1L, 2L));
+
+        when(persistencePort.findExistingNames(Set.of("java", "go", "rust"))).thenReturn(Mono.just(Set.of("Go")));
+        when(persistencePort.saveAllWithPendingAssociation(List.of(java, rust))).thenReturn(Flux.just(
+                new Bootcamp(10L, "Java", "Desc", date, 10),
+                new Bootcamp(11L, "Rust", "Desc", date, 10)));
+
+        StepVerifier.create(useCase.registerBootcampsInBulk(List.of(java, invalid, existing, repeated, rust)))
+                .assertNext(results -> {
+                    assert results.equals(List.of(
+                            new BootcampRegistrationResult("Java", 10L, TechnicalMessage.BOOTCAMP_CREATED),
+                            new BootcampRegistrationResult("", null, TechnicalMessage.INVALID_CAPACITY_NAME),
+                            new BootcampRegistrationResult("Go", null, TechnicalMessage.BOOTCAMP_ALREADY_EXISTS),
+                            new BootcampRegistrationResult("JAVA", null, TechnicalMessage.BOOTCAMP_ALREADY_EXISTS),
+                            new BootcampRegistrationResult("Rust", 11L, TechnicalMessage.BOOTCAMP_CREATED)));
+                })
+                .verifyComplete();
+
+        verify(persistencePort, never()).existsByName(anyString());
+        verify(persistencePort, never()).save(any());
+        verify(associationPort, never()).associateCapacityToBootcamp(anyLong(), anyList());
+    }
+
+    @Test
+    void registerBootcampsInBulk_queuesAssociationThroughTheOutboxLikeSingleRegistration() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        BootcampRegistration java = new BootcampRegistration(new Bootcamp(null, "Java", "Desc", date, 10), List.of(1L));
+
+        when(persistencePort.findExistingNames(Set.of("java"))).thenReturn(Mono.just(Set.of()));
+        when(persistencePort.saveAllWithPendingAssociation(List.of(java)))
+                .thenReturn(Flux.just(new Bootcamp(10L, "Java", "Desc", date, 10)));
+
+        StepVerifier.create(useCase.registerBootcampsInBulk(List.of(java)))
+                .expectNext(List.of(new BootcampRegistrationResult("Java", 10L, TechnicalMessage.BOOTCAMP_CREATED)))
+                .verifyComplete();
+
+        verify(listCachePort).invalidateAll();
+        verifyNoInteractions(associationPort, cachePort);
+    }
+
+    @Test
+    void registerBootcampsInBulk_rejectsEmptyRequest() {
+        StepVerifier.create(useCase.registerBootcampsInBulk(List.of()))
+                .expectErrorSatisfies(e -> {
+                    assert e instanceof BusinessException;
+                    assert ((BusinessException) e).getTechnicalMessage() == TechnicalMessage.INVALID_BULK_SIZE;
+                })
+                .verify();
+    }
+
+    @Test
+    void validateAndReturnIds_loadsAllBootcampsInOneQuery() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(persistencePort.findAllById(Set.of(1L, 2L, 3L))).thenReturn(Flux.just(
+                new Bootcamp(1L, "Java", "Desc", LocalDate.of(2025, 1, 1), 4),
+                new Bootcamp(2L, "Go", "Desc", LocalDate.of(2025, 2, 1), 6),
+                new Bootcamp(3L, "Rust", "Desc", LocalDate.of(2025, 3, 1), 8)));
+
+        StepVerifier.create(useCase.validateAndReturnIds(ids))
+                .expectNext(ids)
+                .verifyComplete();
+
+        verify(persistencePort, never()).existsById(anyLong());
+        verify(persistencePort, never()).findById(anyLong());
+    }
+
+    @Test
+    void validateAndReturnIds_missingId() {
+        when(persistencePort.findAllById(Set.of(1L, 2L))).thenReturn(Flux.just(
+                new Bootcamp(1L, "Java", "Desc", LocalDate.of(2025, 1, 1), 4)));
+
+        StepVerifier.create(useCase.validateAndReturnIds(List.of(1L, 2L)))
+                .expectErrorSatisfies(e -> {
+                    assert e instanceof BusinessException;
+                    assert ((BusinessException) e).getTechnicalMessage() == TechnicalMessage.BOOTCAMP_NOT_FOUND;
+                })
+                .verify();
+    }
+
+    @Test
+    void validateAndReturnIds_duplicateDuration() {
+        when(persistencePort.findAllById(Set.of(1L, 2L))).thenReturn(Flux.just(
+                new Bootcamp(1L, "Java", "Desc", LocalDate.of(2025, 1, 1), 4),
+                new Bootcamp(2L, "Go", "Desc", LocalDate.of(2025, 2, 1), 4)));
+
+        StepVerifier.create(useCase.validateAndReturnIds(List.of(1L, 2L)))
+                .expectErrorSatisfies(e -> {
+                    assert e instanceof BusinessException;
+                    assert ((BusinessException) e).getTechnicalMessage() == TechnicalMessage.BOOTCAMP_DUPLICATE_DATE_DURATION;
+                })
+                .verify();
+    }
+
+    @Test
+    void validateAndReturnIds_repeatedIdIsADuplicate() {
+        when(persistencePort.findAllById(Set.of(1L))).thenReturn(Flux.just(
+                new Bootcamp(1L, "Java", "Desc", LocalDate.of(2025, 1, 1), 4)));
+
+        StepVerifier.create(useCase.validateAndReturnIds(List.of(1L, 1L)))
+                .expectError(BusinessException.class)
+                .verify();
+    }
+}
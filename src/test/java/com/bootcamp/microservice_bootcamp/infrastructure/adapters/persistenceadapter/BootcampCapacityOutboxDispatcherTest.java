@@ -0,0 +1,215 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.enums.CapacityAssociationOutcome;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCachePort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampCapacityAssociationPort;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampListCachePort;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityOutboxEntity;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceGuard;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BootcampCapacityOutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private IBootcampCapacityOutboxRepository outboxRepository;
+    @Mock
+    private IBootcampRepository bootcampRepository;
+    @Mock
+    private IBootcampCapacityAssociationPort associationPort;
+    @Mock
+    private IBootcampCachePort cachePort;
+    @Mock
+    private IBootcampListCachePort listCachePort;
+
+    private BootcampCapacityOutboxDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        CapacityServiceGuard guard = new CapacityServiceGuard(circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                meterRegistry, new StageMetrics(meterRegistry), Duration.ofSeconds(2));
+        dispatcher = new BootcampCapacityOutboxDispatcher(outboxRepository, bootcampRepository, associationPort, cachePort,
+                listCachePort, guard, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "clock", Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(dispatcher, "lease", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(dispatcher, "failedRedriveAfter", Duration.ofHours(1));
+    }
+
+    @Test
+    void dispatchBatch_associatesClaimedEntriesInOneCall() {
+        BootcampCapacityOutboxEntity first = entry(1L, 10L, "1,2", 0);
+        BootcampCapacityOutboxEntity second = entry(2L, 11L, "3", 0);
+        stubClaim(first, second);
+        when(associationPort.associateCapacitiesInBulk(Map.of(10L, List.of(1L, 2L), 11L, List.of(3L))))
+                .thenReturn(Mono.just(Map.of(10L, CapacityAssociationOutcome.ASSOCIATED,
+                        11L, CapacityAssociationOutcome.ASSOCIATED)));
+        when(bootcampRepository.updateCapacityCount(anyLong(), anyInt())).thenReturn(Mono.just(1));
+        when(cachePort.evict(anyLong())).thenReturn(Mono.empty());
+        when(listCachePort.invalidateAll()).thenReturn(Mono.empty());
+        when(outboxRepository.deleteById(anyLong())).thenReturn(Mono.empty());
+
+        StepVerifier.create(dispatcher.dispatchBatch())
+                .expectNext(2L)
+                .verifyComplete();
+
+        verify(bootcampRepository).updateCapacityCount(10L, 2);
+        verify(bootcampRepository).updateCapacityCount(11L, 1);
+        verify(cachePort).evict(10L);
+        verify(listCachePort).invalidateAll();
+        verify(outboxRepository).deleteById(1L);
+        verify(outboxRepository).deleteById(2L);
+    }
+
+    @Test
+    void dispatchBatch_reschedulesFailedEntriesWithBackoff() {
+        BootcampCapacityOutboxEntity entry = entry(1L, 10L, "1", 0);
+        stubClaim(entry);
+        when(associationPort.associateCapacitiesInBulk(Map.of(10L, List.of(1L)))).thenReturn(Mono.just(Map.of()));
+        when(outboxRepository.save(entry)).thenReturn(Mono.just(entry));
+
+        StepVerifier.create(dispatcher.dispatchBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertEquals(1, entry.getAttempts());
+        assertEquals(BootcampCapacityOutboxEntity.STATUS_PENDING, entry.getStatus());
+        assertNull(entry.getClaimedBy());
+        assertTrue(entry.getNextAttemptAt().isAfter(NOW));
+        assertFalse(entry.getNextAttemptAt().isAfter(NOW.plusSeconds(1)));
+        verifyNoInteractions(bootcampRepository);
+    }
+
+    @Test
+    void dispatchBatch_marksEntryFailedAfterMaxAttempts() {
+        BootcampCapacityOutboxEntity entry = entry(1L, 10L, "1", 2);
+        stubClaim(entry);
+        when(associationPort.associateCapacitiesInBulk(Map.of(10L, List.of(1L))))
+                .thenReturn(Mono.just(Map.of(10L, CapacityAssociationOutcome.RETRYABLE)));
+        when(outboxRepository.save(entry)).thenReturn(Mono.just(entry));
+
+        StepVerifier.create(dispatcher.dispatchBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertEquals(BootcampCapacityOutboxEntity.STATUS_FAILED, entry.getStatus());
+        assertEquals(NOW.plusHours(1), entry.getNextAttemptAt());
+        assertEquals(1.0, meterRegistry.get("bootcamp.association.outbox.abandoned").counter().count());
+        assertEquals(1.0, meterRegistry.get("bootcamp.association.outbox.failed").gauge().value());
+    }
+
+    @Test
+    void dispatchBatch_removesBootcampWhenAssociationIsRejectedPermanently() {
+        BootcampCapacityOutboxEntity entry = entry(1L, 10L, "99", 0);
+        stubClaim(entry);
+        when(associationPort.associateCapacitiesInBulk(Map.of(10L, List.of(99L))))
+                .thenReturn(Mono.just(Map.of(10L, CapacityAssociationOutcome.REJECTED)));
+        when(bootcampRepository.deleteById(10L)).thenReturn(Mono.empty());
+        when(outboxRepository.deleteById(1L)).thenReturn(Mono.empty());
+        when(cachePort.evict(10L)).thenReturn(Mono.empty());
+        when(listCachePort.invalidateAll()).thenReturn(Mono.empty());
+
+        StepVerifier.create(dispatcher.dispatchBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(outboxRepository, never()).save(any());
+        verify(bootcampRepository, never()).updateCapacityCount(anyLong(), anyInt());
+        assertEquals(1.0, meterRegistry.get("bootcamp.association.outbox.rejected").counter().count());
+        assertEquals(0.0, meterRegistry.get("bootcamp.association.outbox.abandoned").counter().count());
+    }
+
+    @Test
+    void dispatchBatch_releasesEntriesWithoutSpendingAnAttemptWhenCircuitIsOpen() {
+        BootcampCapacityOutboxEntity entry = entry(1L, 10L, "1", 2);
+        stubClaim(entry);
+        when(associationPort.associateCapacitiesInBulk(Map.of(10L, List.of(1L)))).thenReturn(Mono.error(
+                CallNotPermittedException.createCallNotPermittedException(
+                        circuitBreakerRegistry.circuitBreaker(CapacityServiceGuard.INSTANCE))));
+        when(outboxRepository.save(entry)).thenReturn(Mono.just(entry));
+
+        StepVerifier.create(dispatcher.dispatchBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertEquals(2, entry.getAttempts());
+        assertEquals(BootcampCapacityOutboxEntity.STATUS_PENDING, entry.getStatus());
+        assertNull(entry.getClaimedBy());
+        assertEquals(NOW.plusSeconds(1), entry.getNextAttemptAt());
+    }
+
+    @Test
+    void redriveFailed_resetsDueFailedEntriesAndRefreshesGauge() {
+        when(outboxRepository.redriveFailed(NOW)).thenReturn(Mono.just(2));
+        when(outboxRepository.countByStatus(BootcampCapacityOutboxEntity.STATUS_FAILED)).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(dispatcher.redriveFailed())
+                .expectNext(2)
+                .verifyComplete();
+
+        assertEquals(3.0, meterRegistry.get("bootcamp.association.outbox.failed").gauge().value());
+    }
+
+    @Test
+    void dispatchBatch_doesNothingWhenNothingIsDue() {
+        when(outboxRepository.claimDue(anyString(), eq(NOW), eq(NOW.plusSeconds(30)), eq(50))).thenReturn(Mono.just(0));
+
+        StepVerifier.create(dispatcher.dispatchBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verifyNoInteractions(associationPort);
+    }
+
+    @Test
+    void backoff_growsExponentiallyUpToTheCap() {
+        assertTrue(dispatcher.backoff(3).compareTo(Duration.ofSeconds(2)) >= 0);
+        assertTrue(dispatcher.backoff(3).compareTo(Duration.ofSeconds(4)) <= 0);
+        assertTrue(dispatcher.backoff(30).compareTo(Duration.ofMinutes(5)) <= 0);
+    }
+
+    private void stubClaim(BootcampCapacityOutboxEntity... entries) {
+        when(outboxRepository.claimDue(anyString(), eq(NOW), eq(NOW.plusSeconds(30)), eq(50)))
+                .thenReturn(Mono.just(entries.length));
+        when(outboxRepository.findByClaimedBy(anyString())).thenReturn(Flux.just(entries));
+    }
+
+    private static BootcampCapacityOutboxEntity entry(Long id, Long bootcampId, String capacityIds, int attempts) {
+        return new BootcampCapacityOutboxEntity(id, bootcampId, capacityIds, BootcampCapacityOutboxEntity.STATUS_PENDING,
+                attempts, NOW, "token", NOW);
+    }
+}
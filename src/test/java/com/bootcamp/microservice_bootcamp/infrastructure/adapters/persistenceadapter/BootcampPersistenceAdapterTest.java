@@ -1,17 +1,26 @@
 package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
 
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampCapacityOutboxEntity;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampCapacityOutboxRepository;
 import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,11 +32,17 @@ class BootcampPersistenceAdapterTest {
     @Mock
     private IBootcampEntityMapper entityMapper;
 
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private IBootcampCapacityOutboxRepository outboxRepository;
+
     private BootcampPersistenceAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new BootcampPersistenceAdapter(bootcampRepository, entityMapper);
+        adapter = new BootcampPersistenceAdapter(bootcampRepository, entityMapper, databaseClient, outboxRepository);
     }
 
     @Test
@@ -81,6 +96,29 @@ class BootcampPersistenceAdapterTest {
         verify(bootcampRepository).deleteById(id);
     }
 
+    @Test
+    void saveWithPendingAssociation_shouldWriteOutboxEntryForSavedBootcamp() {
+        Bootcamp model = new Bootcamp(null, "Test", "Desc", null, 10);
+        Bootcamp savedModel = new Bootcamp(7L, "Test", "Desc", null, 10);
+        BootcampEntity entity = new BootcampEntity();
+        BootcampEntity savedEntity = new BootcampEntity(7L, "Test", "Desc", null, 10, 0);
+        ArgumentCaptor<BootcampCapacityOutboxEntity> outboxEntry = ArgumentCaptor.forClass(BootcampCapacityOutboxEntity.class);
+
+        when(entityMapper.toEntity(model)).thenReturn(entity);
+        when(bootcampRepository.save(entity)).thenReturn(Mono.just(savedEntity));
+        when(outboxRepository.save(outboxEntry.capture())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(entityMapper.toModel(savedEntity)).thenReturn(savedModel);
+
+        StepVerifier.create(adapter.saveWithPendingAssociation(model, List.of(1L, 2L)))
+                .expectNext(savedModel)
+                .verifyComplete();
+
+        assertEquals(7L, outboxEntry.getValue().getBootcampId());
+        assertEquals("1,2", outboxEntry.getValue().getCapacityIds());
+        assertEquals(BootcampCapacityOutboxEntity.STATUS_PENDING, outboxEntry.getValue().getStatus());
+        assertEquals(List.of(1L, 2L), outboxEntry.getValue().capacityIdList());
+    }
+
     @Test
     void existsById_shouldReturnRepositoryValue() {
         Long id = 1L;
@@ -113,4 +151,47 @@ class BootcampPersistenceAdapterTest {
         StepVerifier.create(adapter.findById(id))
                 .verifyComplete();
     }
+
+    @Test
+    void findAllById_shouldMapEveryEntity() {
+        BootcampEntity entity = new BootcampEntity();
+        Bootcamp model = new Bootcamp(1L, "Test", "Desc", null, 10);
+
+        when(bootcampRepository.findAllById(List.of(1L, 2L))).thenReturn(Flux.just(entity));
+        when(entityMapper.toModel(entity)).thenReturn(model);
+
+        StepVerifier.create(adapter.findAllById(List.of(1L, 2L)))
+                .expectNext(model)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateCapacityCount_shouldCallRepository() {
+        when(bootcampRepository.updateCapacityCount(1L, 3)).thenReturn(Mono.just(1));
+
+        StepVerifier.create(adapter.updateCapacityCount(1L, 3))
+                .verifyComplete();
+
+        verify(bootcampRepository).updateCapacityCount(1L, 3);
+    }
+
+    @Test
+    void findExistingNames_shouldReturnStoredNames() {
+        BootcampEntity entity = new BootcampEntity();
+        entity.setName("Java");
+        when(bootcampRepository.findAllByNameIn(List.of("java", "go"))).thenReturn(Flux.just(entity));
+
+        StepVerifier.create(adapter.findExistingNames(List.of("java", "go")))
+                .expectNext(Set.of("Java"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findExistingNames_shouldSkipQueryWhenEmpty() {
+        StepVerifier.create(adapter.findExistingNames(List.of()))
+                .expectNext(Set.of())
+                .verifyComplete();
+
+        verifyNoInteractions(bootcampRepository);
+    }
 }
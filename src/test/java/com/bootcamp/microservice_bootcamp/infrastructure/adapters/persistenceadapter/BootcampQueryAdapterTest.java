@@ -0,0 +1,448 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
+import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.CapacityWithTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.model.TechnologySummary;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.BootcampCapacitiesCacheAdapter;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.CapacityWithTechnologiesResponse;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.dto.TechnologyResponse;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.entity.BootcampEntity;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.mapper.IBootcampEntityMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.repository.IBootcampRepository;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter.util.BootcampCursor;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceGuard;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.CapacityServiceRetryPolicy;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience.HedgedRequestExecutor;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BootcampQueryAdapterTest {
+
+    private static final String BATCH_PATH = "/capacity/bootcamp/capacities-technologies/batch";
+    private static final String SINGLE_PATH = "/capacity/bootcamp/capacities-technologies";
+
+    @Mock
+    private IBootcampRepository bootcampRepository;
+    @Mock
+    private IBootcampEntityMapper bootcampEntityMapper;
+
+    private CapacityServiceStub capacityService;
+    private BootcampCapacitiesCacheAdapter capacitiesCache;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private BootcampQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        capacityService = new CapacityServiceStub();
+        adapter = createAdapter(capacityService, 50);
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_byNameAsc_usesPagedQuery() {
+        when(bootcampRepository.findPageOrderByNameAsc(10, 20L))
+                .thenReturn(Flux.just(entity(1L, "Angular"), entity(2L, "java")));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(2, 10, "name", "asc", BootcampListInclude.ALL)
+                        .map(BootcampWithCapacitiesAndTechnologies::name))
+                .expectNext("Angular", "java")
+                .verifyComplete();
+
+        verify(bootcampRepository, never()).findAll();
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_byNameDesc_usesPagedQuery() {
+        when(bootcampRepository.findPageOrderByNameDesc(5, 0L))
+                .thenReturn(Flux.just(entity(2L, "java"), entity(1L, "Angular")));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 5, "name", "desc", BootcampListInclude.ALL)
+                        .map(BootcampWithCapacitiesAndTechnologies::id))
+                .expectNext(2L, 1L)
+                .verifyComplete();
+
+        verify(bootcampRepository, never()).findAll();
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_byCapacityCount_usesPagedQueryIncludingZeroCounts() {
+        when(bootcampRepository.findPageOrderByCapacityCountDesc(3, 3L))
+                .thenReturn(Flux.just(entity(4L, "Go", 1), entity(2L, "java", 0), entity(3L, "Kotlin", 0)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(1, 3, "capacityCount", "desc", BootcampListInclude.ALL)
+                        .map(BootcampWithCapacitiesAndTechnologies::id))
+                .expectNext(4L, 2L, 3L)
+                .verifyComplete();
+
+        verify(bootcampRepository, never()).findAllById(anyIterable());
+        assertEquals(0, capacityService.requestCount("/capacity/bootcamp/relation-counts"));
+    }
+
+    @Test
+    void listBootcampsByCursor_byCapacityCount_seeksAfterCursor() {
+        String cursor = new BootcampCursor("capacityCount", "asc", 7L, "2").encode();
+        when(bootcampRepository.findPageAfterCapacityCountAsc(2, 7L, 2))
+                .thenReturn(Flux.just(entity(9L, "Rust", 2), entity(3L, "Kotlin", 3)));
+
+        StepVerifier.create(adapter.listBootcampsByCursor(cursor, 1, "capacityCount", "asc"))
+                .assertNext(page -> {
+                    assertEquals(List.of(9L), page.bootcamps().stream().map(BootcampWithCapacitiesAndTechnologies::id).toList());
+                    assertEquals(new BootcampCursor("capacityCount", "asc", 9L, "2"), BootcampCursor.decode(page.nextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void listBootcampsByCursor_firstPage_returnsNextCursor() {
+        when(bootcampRepository.findPageOrderByNameAsc(3, 0L))
+                .thenReturn(Flux.just(entity(1L, "Angular"), entity(2L, "java"), entity(3L, "Kotlin")));
+
+        StepVerifier.create(adapter.listBootcampsByCursor("", 2, "name", "asc"))
+                .assertNext(page -> {
+                    assertEquals(List.of(1L, 2L), page.bootcamps().stream().map(BootcampWithCapacitiesAndTechnologies::id).toList());
+                    assertEquals(new BootcampCursor("name", "asc", 2L, "java"), BootcampCursor.decode(page.nextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void listBootcampsByCursor_nextPage_seeksAfterCursor() {
+        String cursor = new BootcampCursor("name", "desc", 2L, "java").encode();
+        when(bootcampRepository.findPageAfterNameDesc("java", 2L, 3))
+                .thenReturn(Flux.just(entity(1L, "Angular")));
+
+        StepVerifier.create(adapter.listBootcampsByCursor(cursor, 2, "name", "desc"))
+                .assertNext(page -> {
+                    assertEquals(1, page.bootcamps().size());
+                    assertNull(page.nextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void listBootcampsByCursor_cursorFromOtherSort_isRejected() {
+        String cursor = new BootcampCursor("name", "asc", 2L, "java").encode();
+
+        StepVerifier.create(adapter.listBootcampsByCursor(cursor, 2, "name", "desc"))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(BusinessException.class, e);
+                    assertEquals(TechnicalMessage.INVALID_CURSOR, ((BusinessException) e).getTechnicalMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    void listBootcampsByCursor_malformedCursor_isRejected() {
+        StepVerifier.create(adapter.listBootcampsByCursor("%%%", 2, "name", "asc"))
+                .expectError(BusinessException.class)
+                .verify();
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_enrichesWholePageInOneBatchCall() {
+        when(bootcampRepository.findPageOrderByNameAsc(5, 0L)).thenReturn(Flux.range(1, 5)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 5, "name", "asc", BootcampListInclude.ALL))
+                .assertNext(bootcamp -> {
+                    assertEquals(1L, bootcamp.id());
+                    assertEquals(List.of(10L), bootcamp.capacities().stream().map(CapacityWithTechnologies::id).toList());
+                })
+                .expectNextCount(4)
+                .verifyComplete();
+
+        assertEquals(1, capacityService.requestCount(BATCH_PATH));
+        assertEquals(0, capacityService.requestCount(SINGLE_PATH));
+    }
+
+    @Test
+    void streamBootcampsPagedAndSorted_emitsFirstChunkBeforeSlowRemainderIsEnriched() {
+        capacityService.slowAfterFirstBatch(Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(adapter, "streamingBatchSize", 2);
+        when(bootcampRepository.findPageOrderByNameAsc(6, 0L)).thenReturn(Flux.just(entity(1L, "A"), entity(2L, "B"),
+                entity(3L, "C"), entity(4L, "D"), entity(5L, "E"), entity(6L, "F")));
+
+        StepVerifier.withVirtualTime(() -> adapter.streamBootcampsPagedAndSorted(0, 6, "name", "asc",
+                                BootcampListInclude.ALL)
+                        .map(BootcampWithCapacitiesAndTechnologies::id))
+                .expectSubscription()
+                .expectNext(1L, 2L)
+                .expectNoEvent(Duration.ofMillis(900))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNext(3L, 4L, 5L, 6L)
+                .verifyComplete();
+
+        assertEquals(3, capacityService.requestCount(BATCH_PATH));
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_withoutCapacities_skipsEnrichment() {
+        when(bootcampRepository.findPageOrderByNameAsc(3, 0L)).thenReturn(Flux.range(1, 3)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 3, "name", "asc", BootcampListInclude.NONE))
+                .assertNext(bootcamp -> {
+                    assertEquals("Bootcamp 1", bootcamp.name());
+                    assertTrue(bootcamp.capacities().isEmpty());
+                    assertFalse(bootcamp.degraded());
+                })
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(0, capacityService.requestCount(BATCH_PATH));
+        assertEquals(0, capacityService.requestCount(SINGLE_PATH));
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_capacitiesWithoutTechnologies_dropsTechnologies() {
+        when(bootcampRepository.findPageOrderByNameAsc(1, 0L)).thenReturn(Flux.just(entity(1L, "Bootcamp 1")));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 1, "name", "asc", new BootcampListInclude(true, false)))
+                .assertNext(bootcamp -> {
+                    assertEquals(List.of(10L), bootcamp.capacities().stream().map(CapacityWithTechnologies::id).toList());
+                    assertTrue(bootcamp.capacities().get(0).technologies().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findBootcampsByIds_keepsRequestOrderReportsMissingAndBatchesEnrichment() {
+        List<Long> ids = List.of(3L, 99L, 1L);
+        when(bootcampRepository.findAllById(ids)).thenReturn(Flux.just(entity(1L, "Bootcamp 1"), entity(3L, "Bootcamp 3")));
+
+        StepVerifier.create(adapter.findBootcampsByIds(ids))
+                .assertNext(result -> {
+                    assertEquals(List.of(3L, 1L), result.bootcamps().stream()
+                            .map(BootcampWithCapacitiesAndTechnologies::id).toList());
+                    assertEquals(List.of(99L), result.missingIds());
+                    assertEquals(List.of(30L), result.bootcamps().get(0).capacities().stream()
+                            .map(CapacityWithTechnologies::id).toList());
+                })
+                .verifyComplete();
+
+        assertEquals(1, capacityService.requestCount(BATCH_PATH));
+        assertEquals(0, capacityService.requestCount(SINGLE_PATH));
+    }
+
+    @Test
+    void findBootcampById_coalescesConcurrentLoadsAndServesFromCacheUntilEvicted() {
+        when(bootcampRepository.findById(1L))
+                .thenReturn(Mono.just(entity(1L, "Bootcamp 1")).delayElement(Duration.ofMillis(50)));
+
+        StepVerifier.create(Flux.merge(adapter.findBootcampById(1L), adapter.findBootcampById(1L),
+                        adapter.findBootcampById(1L)).map(BootcampWithCapacitiesAndTechnologies::id))
+                .expectNext(1L, 1L, 1L)
+                .verifyComplete();
+        StepVerifier.create(adapter.findBootcampById(1L)).expectNextCount(1).verifyComplete();
+
+        verify(bootcampRepository, times(1)).findById(1L);
+
+        StepVerifier.create(capacitiesCache.evict(1L)).verifyComplete();
+        StepVerifier.create(adapter.findBootcampById(1L)).expectNextCount(1).verifyComplete();
+
+        verify(bootcampRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findBootcampById_doesNotCacheMissingBootcamp() {
+        when(bootcampRepository.findById(5L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.findBootcampById(5L)).verifyComplete();
+        StepVerifier.create(adapter.findBootcampById(5L)).verifyComplete();
+
+        verify(bootcampRepository, times(2)).findById(5L);
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_recordsDatabaseAndDownstreamStageTimers() {
+        when(bootcampRepository.findPageOrderByNameAsc(2, 0L)).thenReturn(Flux.range(1, 2)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 2, "name", "asc", BootcampListInclude.ALL)).expectNextCount(2).verifyComplete();
+
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC).tags("stage", "db", "operation", "findPage").timer().count());
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC)
+                .tags("stage", "downstream", "operation", "capacitiesTechnologiesBatch").timer().count());
+        assertEquals(1, meterRegistry.get(StageMetrics.METRIC)
+                .tags("stage", "query", "operation", "listBootcampsPagedAndSorted").timer().count());
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_splitsBatchCallsByChunkSize() {
+        adapter = createAdapter(capacityService, 2);
+        when(bootcampRepository.findPageOrderByNameAsc(5, 0L)).thenReturn(Flux.range(1, 5)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 5, "name", "asc", BootcampListInclude.ALL)
+                        .map(BootcampWithCapacitiesAndTechnologies::id))
+                .expectNext(1L, 2L, 3L, 4L, 5L)
+                .verifyComplete();
+
+        assertEquals(3, capacityService.requestCount(BATCH_PATH));
+        assertEquals(0, capacityService.requestCount(SINGLE_PATH));
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_fallsBackToSingleCallsWhenBatchIsUnsupported() {
+        capacityService = new CapacityServiceStub().withoutBatchEndpoint();
+        adapter = createAdapter(capacityService, 50);
+        when(bootcampRepository.findPageOrderByNameAsc(3, 0L)).thenReturn(Flux.range(1, 3)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 3, "name", "asc", BootcampListInclude.ALL)
+                        .map(bootcamp -> bootcamp.capacities().get(0).name()))
+                .expectNext("Capacity 1", "Capacity 2", "Capacity 3")
+                .verifyComplete();
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 3, "name", "asc", BootcampListInclude.ALL))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, capacityService.requestCount(BATCH_PATH));
+        assertEquals(6, capacityService.requestCount(SINGLE_PATH));
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_reprobesBatchEndpointAfterInterval() {
+        capacityService = new CapacityServiceStub().withoutBatchEndpoint();
+        adapter = createAdapter(capacityService, 50);
+        Instant start = Instant.parse("2025-01-01T12:00:00Z");
+        ReflectionTestUtils.setField(adapter, "clock", Clock.fixed(start, ZoneOffset.UTC));
+        when(bootcampRepository.findPageOrderByNameAsc(1, 0L)).thenReturn(Flux.just(entity(1L, "Bootcamp 1")));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 1, "name", "asc", BootcampListInclude.ALL))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(capacitiesCache.evict(1L)).verifyComplete();
+        ReflectionTestUtils.setField(adapter, "clock", Clock.fixed(start.plusSeconds(61), ZoneOffset.UTC));
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 1, "name", "asc", BootcampListInclude.ALL))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, capacityService.requestCount(BATCH_PATH));
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_servesCachedCapacitiesUntilEvicted() {
+        when(bootcampRepository.findPageOrderByNameAsc(3, 0L)).thenReturn(Flux.range(1, 3)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 3, "name", "asc", BootcampListInclude.ALL)).expectNextCount(3).verifyComplete();
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 3, "name", "asc", BootcampListInclude.ALL)).expectNextCount(3).verifyComplete();
+        assertEquals(1, capacityService.requestCount(BATCH_PATH));
+
+        StepVerifier.create(capacitiesCache.evict(2L)).verifyComplete();
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 3, "name", "asc", BootcampListInclude.ALL)
+                        .map(bootcamp -> bootcamp.capacities().get(0).name()))
+                .expectNext("Capacity 1", "Capacity 2", "Capacity 3")
+                .verifyComplete();
+        assertEquals(2, capacityService.requestCount(BATCH_PATH));
+        assertEquals(1, capacityService.requests(BATCH_PATH).stream()
+                .filter(uri -> uri.getRawQuery().equals("bootcampIds=2"))
+                .count());
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_retriesTransientDownstreamErrors() {
+        capacityService.failNext(1, HttpStatus.SERVICE_UNAVAILABLE);
+        when(bootcampRepository.findPageOrderByNameAsc(2, 0L)).thenReturn(Flux.range(1, 2)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 2, "name", "asc", BootcampListInclude.ALL)
+                        .map(bootcamp -> bootcamp.capacities().get(0).name()))
+                .expectNext("Capacity 1", "Capacity 2")
+                .verifyComplete();
+
+        assertEquals(2, capacityService.requestCount(BATCH_PATH));
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_circuitOpen_returnsCachedOrEmptyCapacitiesFlaggedAsDegraded() {
+        when(bootcampRepository.findPageOrderByNameAsc(2, 0L)).thenReturn(Flux.range(1, 2)
+                .map(i -> entity((long) i, "Bootcamp " + i)));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 2, "name", "asc", BootcampListInclude.ALL)).expectNextCount(2).verifyComplete();
+        StepVerifier.create(capacitiesCache.evict(2L)).verifyComplete();
+        circuitBreakerRegistry.circuitBreaker(CapacityServiceGuard.INSTANCE).transitionToForcedOpenState();
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 2, "name", "asc", BootcampListInclude.ALL))
+                .assertNext(bootcamp -> {
+                    assertFalse(bootcamp.degraded());
+                    assertEquals("Capacity 1", bootcamp.capacities().get(0).name());
+                })
+                .assertNext(bootcamp -> {
+                    assertTrue(bootcamp.degraded());
+                    assertTrue(bootcamp.capacities().isEmpty());
+                })
+                .verifyComplete();
+
+        assertEquals(1, capacityService.requestCount(BATCH_PATH));
+        assertEquals(1.0, meterRegistry.get("capacity.service.rejections").tag("reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    void mapToCapacitiesWithTechnologies_treatsMissingTechnologiesAsEmpty() {
+        List<CapacityWithTechnologies> capacities = BootcampQueryAdapter.mapToCapacitiesWithTechnologies(List.of(
+                new CapacityWithTechnologiesResponse(1L, "Backend", List.of(new TechnologyResponse(7L, "Java"))),
+                new CapacityWithTechnologiesResponse(2L, "Frontend", null)));
+
+        assertEquals(List.of(new TechnologySummary(7L, "Java")), capacities.get(0).technologies());
+        assertTrue(capacities.get(1).technologies().isEmpty());
+        assertTrue(BootcampQueryAdapter.mapToCapacitiesWithTechnologies(null).isEmpty());
+    }
+
+    private BootcampQueryAdapter createAdapter(CapacityServiceStub stub, int batchSize) {
+        capacitiesCache = new BootcampCapacitiesCacheAdapter(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().buildAsync());
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        meterRegistry = new SimpleMeterRegistry();
+        StageMetrics stageMetrics = new StageMetrics(meterRegistry);
+        CapacityServiceGuard guard = new CapacityServiceGuard(circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                meterRegistry, stageMetrics, Duration.ofSeconds(2));
+        BootcampQueryAdapter queryAdapter = new BootcampQueryAdapter(bootcampRepository, bootcampEntityMapper,
+                stub.webClient(), capacitiesCache, guard, new HedgedRequestExecutor(false, 95, Duration.ofMillis(200),
+                Duration.ofMillis(10), 20, 0.1, meterRegistry), new CapacityServiceRetryPolicy(2,
+                Duration.ofMillis(1), Duration.ofMillis(5), 0.5, Duration.ofSeconds(5), 0.2,
+                meterRegistry), stageMetrics);
+        ReflectionTestUtils.setField(queryAdapter, "capacityServiceUrl", "http://capacity");
+        ReflectionTestUtils.setField(queryAdapter, "enrichmentBatchSize", batchSize);
+        ReflectionTestUtils.setField(queryAdapter, "batchReprobeInterval", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(queryAdapter, "streamingBatchSize", 5);
+        ReflectionTestUtils.setField(queryAdapter, "streamingMaxWait", Duration.ofMillis(20));
+        return queryAdapter;
+    }
+
+    private static BootcampEntity entity(Long id, String name) {
+        return entity(id, name, 0);
+    }
+
+    private static BootcampEntity entity(Long id, String name, int capacityCount) {
+        return new BootcampEntity(id, name, "Desc", LocalDate.of(2025, 1, 1), 10, capacityCount);
+    }
+}
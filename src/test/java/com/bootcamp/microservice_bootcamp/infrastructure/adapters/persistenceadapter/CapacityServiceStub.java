@@ -0,0 +1,98 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class CapacityServiceStub implements ExchangeFunction {
+
+    private final List<URI> requests = new CopyOnWriteArrayList<>();
+    private boolean batchSupported = true;
+    private final AtomicInteger pendingFailures = new AtomicInteger();
+    private HttpStatus failureStatus = HttpStatus.SERVICE_UNAVAILABLE;
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private Duration slowBatchDelay = Duration.ZERO;
+
+    WebClient webClient() {
+        return WebClient.builder().exchangeFunction(this).build();
+    }
+
+    CapacityServiceStub withoutBatchEndpoint() {
+        this.batchSupported = false;
+        return this;
+    }
+
+    CapacityServiceStub failNext(int times, HttpStatus status) {
+        this.pendingFailures.set(times);
+        this.failureStatus = status;
+        return this;
+    }
+
+    CapacityServiceStub slowAfterFirstBatch(Duration delay) {
+        this.slowBatchDelay = delay;
+        return this;
+    }
+
+    long requestCount(String path) {
+        return requests(path).size();
+    }
+
+    List<URI> requests(String path) {
+        return requests.stream().filter(uri -> uri.getPath().equals(path)).toList();
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(ClientRequest request) {
+        URI uri = request.url();
+        requests.add(uri);
+        if (pendingFailures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+            return Mono.just(ClientResponse.create(failureStatus).build());
+        }
+        return switch (uri.getPath()) {
+            case "/capacity/bootcamp/capacities-technologies/batch" -> batchSupported
+                    ? delayIfSlow(json(Arrays.stream(queryParam(uri, "bootcampIds").split(","))
+                            .map(id -> "{\"bootcampId\":" + id + ",\"capacities\":" + capacitiesJson(id) + "}")
+                            .collect(Collectors.joining(",", "[", "]"))))
+                    : Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+            case "/capacity/bootcamp/capacities-technologies" -> json(capacitiesJson(queryParam(uri, "bootcampId")));
+            case "/capacity/bootcamp/relation-counts" -> json("[]");
+            default -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+        };
+    }
+
+    private Mono<ClientResponse> delayIfSlow(Mono<ClientResponse> response) {
+        boolean first = batchRequests.getAndIncrement() == 0;
+        return first || slowBatchDelay.isZero() ? response : response.delayElement(slowBatchDelay);
+    }
+
+    private static String capacitiesJson(String bootcampId) {
+        return "[{\"id\":" + bootcampId + "0,\"name\":\"Capacity " + bootcampId + "\","
+                + "\"technologies\":[{\"id\":1,\"name\":\"Java\"}]}]";
+    }
+
+    private static String queryParam(URI uri, String name) {
+        return UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst(name)
+                .replace("%2C", ",");
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
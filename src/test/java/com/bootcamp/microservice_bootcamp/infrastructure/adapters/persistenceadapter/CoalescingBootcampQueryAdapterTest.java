@@ -0,0 +1,99 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.persistenceadapter;
+
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.domain.spi.IBootcampQueryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingBootcampQueryAdapterTest {
+
+    @Mock
+    private IBootcampQueryPort delegate;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingBootcampQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CoalescingBootcampQueryAdapter(delegate, meterRegistry);
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_concurrentIdenticalRequestsShareOneExecution() {
+        when(delegate.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(page(1L, 2L));
+
+        StepVerifier.create(Flux.merge(
+                        adapter.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL).collectList(),
+                        adapter.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL).collectList(),
+                        adapter.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL).collectList())
+                        .map(bootcamps -> bootcamps.stream().map(BootcampWithCapacitiesAndTechnologies::id).toList()))
+                .expectNext(List.of(1L, 2L), List.of(1L, 2L), List.of(1L, 2L))
+                .verifyComplete();
+
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.get("bootcamp.list.coalescing").tag("outcome", "executed").counter().count());
+        assertEquals(2.0, meterRegistry.get("bootcamp.list.coalescing").tag("outcome", "coalesced").counter().count());
+        assertEquals(2.0 / 3, meterRegistry.get("bootcamp.list.coalescing.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_runsAgainOnceThePreviousQueryCompleted() {
+        when(delegate.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(page(1L));
+
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(adapter.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, executions.get());
+        assertEquals(0.0, meterRegistry.get("bootcamp.list.coalescing.in_flight").gauge().value());
+    }
+
+    @Test
+    void listBootcampsPagedAndSorted_differentParametersAreNotCoalesced() {
+        when(delegate.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(page(1L));
+        when(delegate.listBootcampsPagedAndSorted(1, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(page(2L));
+
+        StepVerifier.create(Flux.merge(
+                        adapter.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL),
+                        adapter.listBootcampsPagedAndSorted(1, 10, "name", "asc", BootcampListInclude.ALL)))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(2, executions.get());
+    }
+
+    private Flux<BootcampWithCapacitiesAndTechnologies> page(Long... ids) {
+        return Flux.defer(() -> {
+            executions.incrementAndGet();
+            return Flux.just(ids)
+                    .map(id -> new BootcampWithCapacitiesAndTechnologies(id, "Bootcamp " + id, "Desc",
+                            LocalDate.of(2025, 1, 1), 10, List.of(), false))
+                    .delaySubscription(Duration.ofMillis(50));
+        });
+    }
+}
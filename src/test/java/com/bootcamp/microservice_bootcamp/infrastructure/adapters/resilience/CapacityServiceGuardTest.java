@@ -0,0 +1,47 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CapacityServiceGuardTest {
+
+    @Test
+    void protect_slowCallsTimeOutAndOpenTheBreaker() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .recordException(new CapacityServiceFailurePredicate())
+                .build());
+        CapacityServiceGuard guard = new CapacityServiceGuard(circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                meterRegistry, new StageMetrics(meterRegistry), Duration.ofMillis(50));
+        Mono<String> slowCall = Mono.delay(Duration.ofSeconds(5)).thenReturn("late");
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(guard.protect("slow", slowCall))
+                    .expectError(TimeoutException.class)
+                    .verify(Duration.ofSeconds(1));
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CapacityServiceGuard.INSTANCE);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(2, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        StepVerifier.create(guard.protect("slow", slowCall))
+                .expectError(CallNotPermittedException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+}
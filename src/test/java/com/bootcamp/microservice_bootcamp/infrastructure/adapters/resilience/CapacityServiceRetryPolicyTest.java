@@ -0,0 +1,100 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapacityServiceRetryPolicyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void idempotent_retriesRetryableStatusUntilSuccess() {
+        CapacityServiceRetryPolicy policy = policy(0.2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.idempotent(Mono.defer(() -> attempts.incrementAndGet() < 3
+                        ? Mono.error(error(HttpStatus.SERVICE_UNAVAILABLE))
+                        : Mono.just("ok"))))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.get("capacity.service.retries").tag("outcome", "retried").counter().count());
+    }
+
+    @Test
+    void idempotent_doesNotRetryClientErrors() {
+        CapacityServiceRetryPolicy policy = policy(0.2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(policy.idempotent(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(error(HttpStatus.BAD_REQUEST));
+                })))
+                .expectError(WebClientResponseException.BadRequest.class)
+                .verify();
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void retryBudget_stopsRetriesOnceExhausted() {
+        CapacityServiceRetryPolicy policy = policy(0);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> alwaysFailing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(error(HttpStatus.BAD_GATEWAY));
+        });
+
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(policy.idempotent(alwaysFailing))
+                    .expectError(WebClientResponseException.BadGateway.class)
+                    .verify();
+        }
+
+        assertEquals(16, attempts.get());
+        assertTrue(meterRegistry.get("capacity.service.retries").tag("outcome", "budget_exhausted").counter().count() > 0);
+    }
+
+    @Test
+    void nonIdempotent_letsAnInFlightWriteOutliveTheDeadline() {
+        CapacityServiceRetryPolicy policy = policy(0.2);
+
+        StepVerifier.withVirtualTime(() -> policy.nonIdempotent(Mono.delay(Duration.ofSeconds(10)).thenReturn("applied")))
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("applied")
+                .verifyComplete();
+    }
+
+    @Test
+    void isRetryable_classifiesByIdempotency() {
+        CapacityServiceRetryPolicy policy = policy(0.2);
+
+        assertTrue(policy.isRetryable(error(HttpStatus.GATEWAY_TIMEOUT), true));
+        assertFalse(policy.isRetryable(error(HttpStatus.GATEWAY_TIMEOUT), false));
+        assertTrue(policy.isRetryable(error(HttpStatus.SERVICE_UNAVAILABLE), false));
+        assertTrue(policy.isRetryable(new TimeoutException(), true));
+        assertFalse(policy.isRetryable(new TimeoutException(), false));
+    }
+
+    private CapacityServiceRetryPolicy policy(double budgetRatio) {
+        return new CapacityServiceRetryPolicy(2, Duration.ofMillis(1), Duration.ofMillis(5), 0.5,
+                Duration.ofSeconds(5), budgetRatio, meterRegistry);
+    }
+
+    private static WebClientResponseException error(HttpStatus status) {
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(), HttpHeaders.EMPTY,
+                new byte[0], null);
+    }
+}
@@ -0,0 +1,140 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.adapters.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_sendsHedgeWhenPrimaryIsSlowAndCancelsTheLoser() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+
+        StepVerifier.create(executor.execute(() -> attempts.getAndIncrement() == 0
+                        ? Mono.delay(Duration.ofSeconds(5)).thenReturn("slow").doOnCancel(() -> primaryCancelled.set(true))
+                        : Mono.just("fast")))
+                .expectNext("fast")
+                .verifyComplete();
+
+        assertEquals(2, attempts.get());
+        assertTrue(primaryCancelled.get());
+        assertEquals(1.0, meterRegistry.get("capacity.service.hedges").tag("outcome", "sent").counter().count());
+    }
+
+    @Test
+    void execute_fastPrimaryFailureDoesNotCancelASuccessfulHedge() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.execute(() -> attempts.getAndIncrement() == 0
+                        ? Mono.<String>error(new IllegalStateException("primary failed"))
+                        : Mono.just("hedge")))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void execute_propagatesPrimaryErrorWhenNoAttemptSucceeds() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.execute(() -> Mono.<String>error(
+                        new IllegalStateException("attempt " + attempts.incrementAndGet()))))
+                .expectErrorMessage("attempt 1")
+                .verify();
+    }
+
+    @Test
+    void execute_propagatesHedgeErrorWhenPrimaryCompletesEmpty() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.execute(() -> attempts.getAndIncrement() == 0
+                        ? Mono.<String>empty()
+                        : Mono.<String>error(new IllegalStateException("hedge failed"))))
+                .expectErrorMessage("hedge failed")
+                .verify();
+    }
+
+    @Test
+    void execute_samplesCancelledPrimaryInsteadOfTheWinningHedge() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+
+        for (int i = 0; i < 20; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            StepVerifier.create(executor.execute(() -> attempts.getAndIncrement() == 0
+                            ? Mono.delay(Duration.ofSeconds(5)).thenReturn("slow")
+                            : Mono.just("fast")))
+                    .expectNext("fast")
+                    .verifyComplete();
+        }
+
+        assertTrue(executor.currentDelay().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    void execute_doesNotHedgeWhenPrimaryAnswersInTime() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.execute(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.just("fast");
+                }))
+                .expectNext("fast")
+                .verifyComplete();
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_respectsHedgeBudget() {
+        HedgedRequestExecutor executor = executor(true, 0.5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.execute(() -> attempts.getAndIncrement() == 0
+                        ? Mono.delay(Duration.ofMillis(200)).thenReturn("slow")
+                        : Mono.just("fast")))
+                .expectNext("slow")
+                .verifyComplete();
+
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, meterRegistry.get("capacity.service.hedges").tag("outcome", "budget_exhausted").counter().count());
+    }
+
+    @Test
+    void execute_disabled_callsOnce() {
+        HedgedRequestExecutor executor = executor(false, 1.0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.execute(() -> Mono.delay(Duration.ofMillis(100))
+                        .map(tick -> attempts.incrementAndGet())))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void currentDelay_usesInitialDelayUntilEnoughSamples() {
+        HedgedRequestExecutor executor = executor(true, 1.0);
+
+        assertEquals(Duration.ofMillis(20), executor.currentDelay());
+    }
+
+    private HedgedRequestExecutor executor(boolean enabled, double budgetRatio) {
+        return new HedgedRequestExecutor(enabled, 95, Duration.ofMillis(20), Duration.ofMillis(1), 20,
+                budgetRatio, meterRegistry);
+    }
+}
@@ -29,7 +29,10 @@ class RouterRestTest {
         ).build();
 
         lenient().when(bootcampHandler.createBootcamp(any())).thenReturn(Mono.just(ServerResponse.created(null).build().block()));
+        lenient().when(bootcampHandler.createBootcampsInBulk(any())).thenReturn(Mono.just(ServerResponse.ok().build().block()));
         lenient().when(bootcampHandler.listBootcamps(any())).thenReturn(Mono.just(ServerResponse.ok().build().block()));
+        lenient().when(bootcampHandler.getBootcampsByIds(any())).thenReturn(Mono.just(ServerResponse.ok().build().block()));
+        lenient().when(bootcampHandler.getBootcampById(any())).thenReturn(Mono.just(ServerResponse.ok().build().block()));
         lenient().when(bootcampHandler.deleteBootcamp(any())).thenReturn(Mono.just(ServerResponse.noContent().build().block()));
         lenient().when(bootcampHandler.validateBootcampIds(any())).thenReturn(Mono.just(ServerResponse.ok().build().block()));
     }
@@ -41,6 +44,13 @@ class RouterRestTest {
                 .expectStatus().isCreated();
     }
 
+    @Test
+    void testCreateBootcampsInBulkRoute() {
+        webTestClient.post().uri("/bootcamp/bulk")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
     @Test
     void testListBootcampsRoute() {
         webTestClient.get().uri("/bootcamp/list")
@@ -48,6 +58,20 @@ class RouterRestTest {
                 .expectStatus().isOk();
     }
 
+    @Test
+    void testGetBootcampsByIdsRoute() {
+        webTestClient.get().uri("/bootcamp?ids=1,2")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testGetBootcampByIdRoute() {
+        webTestClient.get().uri("/bootcamp/1")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
     @Test
     void testDeleteBootcampRoute() {
         webTestClient.delete().uri("/bootcamp/1")
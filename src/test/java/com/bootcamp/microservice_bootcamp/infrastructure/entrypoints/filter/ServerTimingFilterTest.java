@@ -0,0 +1,44 @@
+package com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.filter;
+
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        StageMetrics stageMetrics = new StageMetrics(new SimpleMeterRegistry());
+        webTestClient = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+                        .GET("/timed", request -> stageMetrics.time(StageMetrics.DATABASE, "find",
+                                        Mono.just("bootcamp").delayElement(Duration.ofMillis(5)))
+                                .flatMap(body -> stageMetrics.map(StageMetrics.MAPPING, "toDTO",
+                                        Mono.just(body), String::toUpperCase))
+                                .flatMap(body -> ServerResponse.ok().bodyValue(body)))
+                        .build())
+                .webFilter(new ServerTimingFilter(Duration.ofMillis(500), 1.0))
+                .build();
+    }
+
+    @Test
+    void addsServerTimingHeaderWithStageBreakdown() {
+        webTestClient.get().uri("/timed")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(ServerTimingFilter.SERVER_TIMING_HEADER, header -> {
+                    assertThat(header).contains("db;dur=", "mapping;dur=", "total;dur=");
+                    assertThat(header).doesNotContain("downstream");
+                });
+    }
+}
@@ -5,16 +5,31 @@ import com.bootcamp.microservice_bootcamp.domain.enums.TechnicalMessage;
 import com.bootcamp.microservice_bootcamp.domain.exceptions.BusinessException;
 import com.bootcamp.microservice_bootcamp.domain.exceptions.TechnicalException;
 import com.bootcamp.microservice_bootcamp.domain.model.Bootcamp;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampCursorPage;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampListInclude;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistration;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampRegistrationResult;
+import com.bootcamp.microservice_bootcamp.domain.model.BootcampWithCapacitiesAndTechnologies;
+import com.bootcamp.microservice_bootcamp.infrastructure.adapters.cacheadapter.BootcampListResponseCacheAdapter;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampBulkResultDTO;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampCursorPageDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampDTO;
+import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.dto.BootcampWithCapacitiesAndTechnologiesDTO;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper.IBootcampMapper;
 import com.bootcamp.microservice_bootcamp.infrastructure.entrypoints.mapper.IBootcampWithCapacitiesAndTechnologiesMapper;
+import com.bootcamp.microservice_bootcamp.infrastructure.metrics.StageMetrics;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
@@ -22,6 +37,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,13 +52,17 @@ class BootcampHandlerImplTest {
     private IBootcampWithCapacitiesAndTechnologiesMapper bootcampWithCapacitiesAndTechnologiesMapper;
 
     private BootcampHandlerImpl handler;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         handler = new BootcampHandlerImpl(bootcampServicePort,
                 bootcampMapper,
-                bootcampWithCapacitiesAndTechnologiesMapper);
+                bootcampWithCapacitiesAndTechnologiesMapper,
+                new StageMetrics(meterRegistry),
+                new BootcampListResponseCacheAdapter(Caffeine.newBuilder().build()),
+                Jackson2ObjectMapperBuilder.json().build());
     }
 
     @Test
@@ -149,6 +169,57 @@ class BootcampHandlerImplTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.statusCode());
     }
 
+    @Test
+    void createBootcampsInBulk_success() {
+        ServerRequest request = mock(ServerRequest.class);
+        BootcampDTO dto = new BootcampDTO(null, "Bootcamp Java", "Intro Spring Boot", List.of(1L),
+                LocalDate.of(2025, 6, 19), 10);
+        Bootcamp mappedBootcamp = new Bootcamp(null, dto.getName(), dto.getDescription(), dto.getReleaseDate(),
+                dto.getDuration());
+        BootcampRegistrationResult result = new BootcampRegistrationResult("Bootcamp Java", 1L,
+                TechnicalMessage.BOOTCAMP_CREATED);
+
+        when(request.bodyToFlux(BootcampDTO.class)).thenReturn(Flux.just(dto));
+        when(bootcampMapper.bootcampDTOToBootcamp(dto)).thenReturn(mappedBootcamp);
+        when(bootcampServicePort.registerBootcampsInBulk(List.of(new BootcampRegistration(mappedBootcamp, List.of(1L)))))
+                .thenReturn(Mono.just(List.of(result)));
+        when(bootcampMapper.toBulkResultDTO(result)).thenReturn(new BootcampBulkResultDTO());
+
+        ServerResponse response = handler.createBootcampsInBulk(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+    }
+
+    @Test
+    void createBootcampsInBulk_invalidSize() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.bodyToFlux(BootcampDTO.class)).thenReturn(Flux.empty());
+        when(bootcampServicePort.registerBootcampsInBulk(List.of()))
+                .thenReturn(Mono.error(new BusinessException(TechnicalMessage.INVALID_BULK_SIZE)));
+
+        ServerResponse response = handler.createBootcampsInBulk(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+    }
+
+    @Test
+    void createBootcampsInBulk_rejectsOversizedBodyWithoutDecodingItAll() {
+        ServerRequest request = mock(ServerRequest.class);
+        AtomicInteger decoded = new AtomicInteger();
+        when(request.bodyToFlux(BootcampDTO.class)).thenReturn(Flux.generate(sink -> {
+            decoded.incrementAndGet();
+            sink.next(new BootcampDTO(null, "Bootcamp", "Desc", List.of(1L), LocalDate.of(2025, 6, 19), 10));
+        }));
+        when(bootcampMapper.bootcampDTOToBootcamp(any())).thenReturn(new Bootcamp(null, "Bootcamp", "Desc",
+                LocalDate.of(2025, 6, 19), 10));
+
+        ServerResponse response = handler.createBootcampsInBulk(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+        assertEquals(IBootcampServicePort.MAX_BULK_SIZE + 1, decoded.get());
+        verify(bootcampServicePort, never()).registerBootcampsInBulk(anyList());
+    }
+
     @Test
     void listBootcamps_success() {
         ServerRequest request = mock(ServerRequest.class);
@@ -156,15 +227,187 @@ class BootcampHandlerImplTest {
         when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
         when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
         when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        mockAccept(request, MediaType.APPLICATION_JSON);
+
+        when(bootcampServicePort.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(Flux.empty());
+
+        ServerResponse response = handler.listBootcamps(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+    }
+
+    @Test
+    void listBootcamps_servesRepeatedPageFromCache() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.queryParam("page")).thenReturn(java.util.Optional.of("0"));
+        when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
+        when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        mockAccept(request, MediaType.APPLICATION_JSON);
+
+        when(bootcampServicePort.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(Flux.empty());
+
+        ServerResponse first = handler.listBootcamps(request).block();
+        ServerResponse second = handler.listBootcamps(request).block();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(HttpStatus.OK, second.statusCode());
+        assertEquals(MediaType.APPLICATION_JSON, second.headers().getContentType());
+        verify(bootcampServicePort, times(1)).listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL);
+    }
+
+    @Test
+    void listBootcamps_fieldsWithoutCapacities_skipsEnrichment() {
+        ServerRequest request = pageRequest(null);
+        when(request.queryParam("fields")).thenReturn(java.util.Optional.of("id, name,releaseDate"));
+        when(bootcampServicePort.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.NONE))
+                .thenReturn(Flux.empty());
+
+        ServerResponse response = handler.listBootcamps(request).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+        verify(bootcampServicePort).listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.NONE);
+    }
 
-        when(bootcampServicePort.listBootcampsPagedAndSorted(0, 10, "name", "asc"))
+    @Test
+    void listBootcamps_includeParameterOverridesFields() {
+        ServerRequest request = pageRequest(null);
+        when(request.queryParam("fields")).thenReturn(java.util.Optional.of("id,name"));
+        when(request.queryParam("include")).thenReturn(java.util.Optional.of("capacities"));
+        when(bootcampServicePort.listBootcampsPagedAndSorted(0, 10, "name", "asc", new BootcampListInclude(true, false)))
                 .thenReturn(Flux.empty());
 
         ServerResponse response = handler.listBootcamps(request).block();
+
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.statusCode());
     }
 
+    @Test
+    void listBootcamps_returnsNotModifiedWhenETagMatches() {
+        when(bootcampServicePort.listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(Flux.empty());
+
+        ServerResponse first = handler.listBootcamps(pageRequest(null)).block();
+        assertNotNull(first);
+        String etag = first.headers().getETag();
+        assertNotNull(etag);
+
+        ServerResponse revalidated = handler.listBootcamps(pageRequest(etag)).block();
+        assertNotNull(revalidated);
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.statusCode());
+        assertEquals(etag, revalidated.headers().getETag());
+
+        ServerResponse changed = handler.listBootcamps(pageRequest("\"stale\"")).block();
+        assertNotNull(changed);
+        assertEquals(HttpStatus.OK, changed.statusCode());
+        verify(bootcampServicePort, times(1)).listBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL);
+    }
+
+    @Test
+    void listBootcamps_streamsNdjsonWhenAccepted() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.queryParam("page")).thenReturn(java.util.Optional.of("0"));
+        when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
+        when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        mockAccept(request, MediaType.APPLICATION_NDJSON);
+
+        when(bootcampServicePort.streamBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(Flux.empty());
+
+        ServerResponse response = handler.listBootcamps(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.headers().getContentType());
+    }
+
+    @Test
+    void listBootcamps_streamsServerSentEventsWhenAccepted() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.queryParam("page")).thenReturn(java.util.Optional.of("0"));
+        when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
+        when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        mockAccept(request, MediaType.TEXT_EVENT_STREAM);
+
+        when(bootcampServicePort.streamBootcampsPagedAndSorted(0, 10, "name", "asc", BootcampListInclude.ALL))
+                .thenReturn(Flux.empty());
+
+        ServerResponse response = handler.listBootcamps(request).block();
+        assertNotNull(response);
+        assertEquals(MediaType.TEXT_EVENT_STREAM, response.headers().getContentType());
+    }
+
+    @Test
+    void listBootcamps_cursorMode() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.queryParam("page")).thenReturn(java.util.Optional.empty());
+        when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
+        when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        when(request.queryParam("cursor")).thenReturn(java.util.Optional.of(""));
+
+        BootcampCursorPage page = new BootcampCursorPage(List.of(), null);
+        when(bootcampServicePort.listBootcampsByCursor("", 10, "name", "asc"))
+                .thenReturn(Mono.just(page));
+        when(bootcampWithCapacitiesAndTechnologiesMapper.toCursorPageDTO(page))
+                .thenReturn(new BootcampCursorPageDTO());
+
+        ServerResponse response = handler.listBootcamps(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+        verify(bootcampServicePort, never()).listBootcampsPagedAndSorted(anyInt(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void listBootcamps_invalidCursor() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.queryParam("page")).thenReturn(java.util.Optional.empty());
+        when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
+        when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        when(request.queryParam("cursor")).thenReturn(java.util.Optional.of("not-a-cursor"));
+
+        when(bootcampServicePort.listBootcampsByCursor("not-a-cursor", 10, "name", "asc"))
+                .thenReturn(Mono.error(new BusinessException(TechnicalMessage.INVALID_CURSOR)));
+
+        ServerResponse response = handler.listBootcamps(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+    }
+
+    @Test
+    void getBootcampById_success() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.pathVariable("bootcampId")).thenReturn("1");
+        BootcampWithCapacitiesAndTechnologies bootcamp = new BootcampWithCapacitiesAndTechnologies(1L, "Java",
+                "Desc", LocalDate.of(2025, 1, 1), 10, List.of(), false);
+        when(bootcampServicePort.getBootcampById(1L)).thenReturn(Mono.just(bootcamp));
+        when(bootcampWithCapacitiesAndTechnologiesMapper.toDTO(bootcamp))
+                .thenReturn(new BootcampWithCapacitiesAndTechnologiesDTO());
+
+        ServerResponse response = handler.getBootcampById(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+    }
+
+    @Test
+    void getBootcampById_notFound() {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.pathVariable("bootcampId")).thenReturn("42");
+        when(bootcampServicePort.getBootcampById(42L))
+                .thenReturn(Mono.error(new BusinessException(TechnicalMessage.BOOTCAMP_NOT_FOUND)));
+
+        ServerResponse response = handler.getBootcampById(request).block();
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_FOUND, response.statusCode());
+    }
+
     @Test
     void deleteBootcamp_success() {
         ServerRequest request = mock(ServerRequest.class);
@@ -244,4 +487,23 @@ class BootcampHandlerImplTest {
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.statusCode());
     }
+
+    private static ServerRequest pageRequest(String ifNoneMatch) {
+        ServerRequest request = mock(ServerRequest.class);
+        when(request.queryParam("page")).thenReturn(java.util.Optional.of("0"));
+        when(request.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(request.queryParam("sortBy")).thenReturn(java.util.Optional.of("name"));
+        when(request.queryParam("direction")).thenReturn(java.util.Optional.of("asc"));
+        ServerRequest.Headers headers = mock(ServerRequest.Headers.class);
+        when(request.headers()).thenReturn(headers);
+        when(headers.accept()).thenReturn(List.of(MediaType.APPLICATION_JSON));
+        when(headers.header(HttpHeaders.IF_NONE_MATCH)).thenReturn(ifNoneMatch != null ? List.of(ifNoneMatch) : List.of());
+        return request;
+    }
+
+    private static void mockAccept(ServerRequest request, MediaType mediaType) {
+        ServerRequest.Headers headers = mock(ServerRequest.Headers.class);
+        when(request.headers()).thenReturn(headers);
+        when(headers.accept()).thenReturn(List.of(mediaType));
+    }
 }
\ No newline at end of file